@@ -15,6 +15,7 @@ public class GatewayCorsConfig {
         config.addAllowedOrigin("http://localhost:4200");
         config.addAllowedMethod("*"); // GET, POST, PUT, DELETE, OPTIONS
         config.addAllowedHeader("*");
+        config.addExposedHeader("ETag"); // GET conditionnels (If-None-Match) sur /projects
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
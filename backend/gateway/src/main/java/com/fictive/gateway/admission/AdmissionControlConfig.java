@@ -0,0 +1,27 @@
+package com.fictive.gateway.admission;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+@Configuration
+public class AdmissionControlConfig {
+
+    /**
+     * Client identifié par son adresse IP. Seule la dernière entrée de X-Forwarded-For est retenue
+     * (celle ajoutée par le proxy placé devant la gateway) : un client ne peut pas choisir sa clé.
+     */
+    @Bean
+    public KeyResolver clientAddressKeyResolver() {
+        XForwardedRemoteAddressResolver resolver = XForwardedRemoteAddressResolver.maxTrustedIndex(1);
+        return exchange -> {
+            InetSocketAddress address = resolver.resolve(exchange);
+            return Mono.justOrEmpty(address)
+                .map(a -> a.getAddress() != null ? a.getAddress().getHostAddress() : a.getHostString());
+        };
+    }
+}
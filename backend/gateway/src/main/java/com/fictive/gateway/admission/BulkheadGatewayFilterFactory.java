@@ -0,0 +1,86 @@
+package com.fictive.gateway.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cloison (bulkhead) par route : nombre maximal de requêtes transmises simultanément au backend.
+ * Au-delà, la requête est refusée immédiatement (503 + Retry-After) au lieu d'attendre un thread
+ * ou une connexion du service : une route lente ne peut pas épuiser les ressources des autres.
+ * Usage dans application.yml : {@code - Bulkhead=50}.
+ */
+@Component
+public class BulkheadGatewayFilterFactory extends AbstractGatewayFilterFactory<BulkheadGatewayFilterFactory.Config> {
+
+    private final Map<String, AtomicInteger> active = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public BulkheadGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static class Config {
+
+        private int maxConcurrent = 100;
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("maxConcurrent");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "default";
+            AtomicInteger inUse = active(routeId);
+
+            if (inUse.incrementAndGet() > config.getMaxConcurrent()) {
+                inUse.decrementAndGet();
+                Counter.builder("gateway.bulkhead.rejected")
+                    .description("Requests rejected because the route was at its concurrency limit")
+                    .tag("route", routeId)
+                    .register(meterRegistry)
+                    .increment();
+                exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+                return exchange.getResponse().setComplete();
+            }
+            return chain.filter(exchange).doFinally(signal -> inUse.decrementAndGet());
+        };
+    }
+
+    private AtomicInteger active(String routeId) {
+        return active.computeIfAbsent(routeId, id -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder("gateway.bulkhead.active", counter, AtomicInteger::get)
+                .description("Requests currently forwarded on the route")
+                .tag("route", id)
+                .register(meterRegistry);
+            return counter;
+        });
+    }
+}
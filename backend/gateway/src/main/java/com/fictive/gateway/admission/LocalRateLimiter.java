@@ -0,0 +1,107 @@
+package com.fictive.gateway.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Limiteur de débit en mémoire (seau à jetons par client et par route), sans Redis,
+ * pour le filtre RequestRateLimiter. Chaque instance de la gateway applique ses propres limites.
+ * Réglage par route dans application.yml : local-rate-limiter.replenish-rate, local-rate-limiter.burst-capacity.
+ */
+@Component
+public class LocalRateLimiter extends AbstractRateLimiter<LocalRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+
+    // Seaux par (route, client) ; un client inactif repart avec un seau plein
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterAccess(Duration.ofMinutes(10))
+        .build();
+    private final Config defaultConfig = new Config();
+    private final MeterRegistry meterRegistry;
+
+    public LocalRateLimiter(ConfigurationService configurationService, MeterRegistry meterRegistry) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static class Config {
+
+        // Jetons ajoutés par seconde (débit soutenu autorisé)
+        private int replenishRate = 20;
+        // Taille du seau (rafale autorisée)
+        private int burstCapacity = 40;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        TokenBucket bucket = buckets.get(routeId + "|" + id, key -> new TokenBucket(config.getBurstCapacity()));
+        long remaining = bucket.tryConsume(config.getReplenishRate(), config.getBurstCapacity());
+        boolean allowed = remaining >= 0;
+
+        Counter.builder("gateway.ratelimit")
+            .description("Requests checked by the local rate limiter, by outcome")
+            .tag("route", routeId)
+            .tag("result", allowed ? "allowed" : "denied")
+            .register(meterRegistry)
+            .increment();
+
+        return Mono.just(new Response(allowed, Map.of(
+            "X-RateLimit-Remaining", String.valueOf(Math.max(remaining, 0)),
+            "X-RateLimit-Replenish-Rate", String.valueOf(config.getReplenishRate()),
+            "X-RateLimit-Burst-Capacity", String.valueOf(config.getBurstCapacity()))));
+    }
+
+    private static final class TokenBucket {
+
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        TokenBucket(int capacity) {
+            this.tokens = capacity;
+        }
+
+        /**
+         * Prend un jeton ; retourne les jetons restants, ou -1 si le seau est vide.
+         */
+        synchronized long tryConsume(int replenishRate, int capacity) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) / 1e9 * replenishRate);
+            refilledAt = now;
+            if (tokens < 1) {
+                return -1;
+            }
+            tokens -= 1;
+            return (long) tokens;
+        }
+    }
+}
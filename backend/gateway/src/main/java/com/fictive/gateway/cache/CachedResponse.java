@@ -0,0 +1,79 @@
+package com.fictive.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Réponse d'un backend gardée par la gateway : statut, en-têtes de représentation et corps.
+ * Une réponse périmée munie d'un ETag est revalidée (If-None-Match) au lieu d'être rechargée.
+ */
+record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, String etag, long freshUntil) {
+
+    // En-têtes propres à chaque échange (connexion, CORS du client d'origine), jamais rejoués
+    private static final List<String> EXCLUDED_HEADERS = List.of(
+        HttpHeaders.CONNECTION, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONTENT_LENGTH,
+        HttpHeaders.VARY, HttpHeaders.SET_COOKIE, "Keep-Alive", ResponseCacheGatewayFilterFactory.X_CACHE);
+
+    static CachedResponse of(HttpStatusCode status, HttpHeaders source, byte[] body, long freshUntil) {
+        HttpHeaders headers = new HttpHeaders();
+        source.forEach((name, values) -> {
+            if (!isExcluded(name)) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        return new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body, source.getETag(), freshUntil);
+    }
+
+    /**
+     * Même représentation confirmée par le backend (304) : nouvelle durée de fraîcheur.
+     */
+    CachedResponse refresh(long freshUntil) {
+        return new CachedResponse(status, headers, body, etag, freshUntil);
+    }
+
+    boolean isFresh(long now) {
+        return now < freshUntil;
+    }
+
+    /**
+     * Durée de fraîcheur annoncée par Cache-Control (s-maxage, max-age, no-cache), sinon la valeur par défaut.
+     */
+    static long freshUntil(HttpHeaders headers, Duration defaultTtl, long now) {
+        Long maxAge = null;
+        for (String directive : directives(headers.getCacheControl())) {
+            if (directive.equals("no-cache")) {
+                return now;
+            }
+            if (directive.startsWith("s-maxage=")) {
+                maxAge = seconds(directive);
+            } else if (directive.startsWith("max-age=") && maxAge == null) {
+                maxAge = seconds(directive);
+            }
+        }
+        return now + (maxAge != null ? maxAge * 1000 : defaultTtl.toMillis());
+    }
+
+    static List<String> directives(String cacheControl) {
+        if (cacheControl == null || cacheControl.isBlank()) {
+            return List.of();
+        }
+        return List.of(cacheControl.toLowerCase(Locale.ROOT).replace(" ", "").split(","));
+    }
+
+    private static long seconds(String directive) {
+        try {
+            return Math.max(0, Long.parseLong(directive.substring(directive.indexOf('=') + 1).replace("\"", "")));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static boolean isExcluded(String name) {
+        return name.regionMatches(true, 0, "Access-Control-", 0, 15)
+            || EXCLUDED_HEADERS.stream().anyMatch(name::equalsIgnoreCase);
+    }
+}
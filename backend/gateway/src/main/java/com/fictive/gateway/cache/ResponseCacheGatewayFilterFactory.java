@@ -0,0 +1,311 @@
+package com.fictive.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache mémoire borné des réponses GET d'une route, avec regroupement des requêtes identiques en cours.
+ * <ul>
+ *   <li>Une réponse 200 est gardée selon le Cache-Control du backend (no-store et private ne sont pas
+ *   gardés, max-age / s-maxage fixent la fraîcheur), à défaut pendant le ttl de la route.</li>
+ *   <li>Périmée, une réponse avec ETag est revalidée par If-None-Match : un 304 du backend la prolonge.
+ *   Les If-None-Match des clients sont évalués par la gateway.</li>
+ *   <li>Les GET identiques arrivant pendant un appel au backend attendent sa réponse au lieu d'en lancer un autre.</li>
+ *   <li>Toute écriture (POST, PUT, PATCH, DELETE) passant par la route vide le cache de la route.</li>
+ * </ul>
+ * Usage dans application.yml : {@code - ResponseCache=5s}.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    static final String X_CACHE = "X-Cache";
+
+    private final Cache<Key, CachedResponse> cache;
+    // Génération par route, incrémentée au début et à la fin de chaque écriture :
+    // une lecture commencée avant la fin d'une écriture n'est ni gardée ni partagée ensuite
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<Key, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public ResponseCacheGatewayFilterFactory(MeterRegistry meterRegistry,
+                                             @Value("${gateway.response-cache.max-size:64MB}") DataSize maxSize) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((Key key, CachedResponse response) -> response.body().length + key.uri().length())
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+    }
+
+    public static class Config {
+
+        // Fraîcheur par défaut quand le backend n'envoie pas de Cache-Control (0 : toujours revalider)
+        private Duration ttl = Duration.ofSeconds(5);
+        // Les corps plus gros sont transmis sans être gardés
+        private DataSize maxBodySize = DataSize.ofMegabytes(4);
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+    }
+
+    private record Key(String routeId, String uri, String accept) {
+    }
+
+    // Appel au backend en cours ; vide si la réponse ne peut pas être partagée
+    private record InFlight(long generation, Sinks.One<Optional<CachedResponse>> response) {
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // Avant NettyWriteResponseFilter, pour que la réponse du backend soit écrite dans CachingResponse
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "default";
+            HttpMethod method = exchange.getRequest().getMethod();
+            if (HttpMethod.GET.equals(method)) {
+                return get(config, routeId, exchange, chain);
+            }
+            if (HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)) {
+                return chain.filter(exchange);
+            }
+            return write(routeId, exchange, chain);
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> write(String routeId, ServerWebExchange exchange, GatewayFilterChain chain) {
+        generation(routeId).incrementAndGet();
+        // Invalidation avant l'envoi de la réponse : le client ne peut pas relire l'ancienne version ensuite
+        exchange.getResponse().beforeCommit(() -> {
+            invalidate(routeId);
+            return Mono.empty();
+        });
+        return chain.filter(exchange).doFinally(signal -> invalidate(routeId));
+    }
+
+    private void invalidate(String routeId) {
+        generation(routeId).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.routeId().equals(routeId));
+    }
+
+    private Mono<Void> get(Config config, String routeId, ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        List<String> directives = CachedResponse.directives(request.getHeaders().getCacheControl());
+        if (directives.contains("no-store") || isEventStream(request)) {
+            count(routeId, "bypass");
+            return chain.filter(exchange);
+        }
+
+        String query = request.getURI().getRawQuery();
+        Key key = new Key(routeId, request.getURI().getRawPath() + (query != null ? "?" + query : ""),
+            request.getHeaders().getFirst(HttpHeaders.ACCEPT));
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null && !directives.contains("no-cache") && cached.isFresh(System.currentTimeMillis())) {
+            count(routeId, "hit");
+            return serve(exchange.getResponse(), cached, request, "HIT");
+        }
+
+        long generation = generation(routeId).get();
+        InFlight mine = new InFlight(generation, Sinks.one());
+        InFlight current = inFlight.compute(key,
+            (k, existing) -> existing != null && existing.generation() == generation ? existing : mine);
+        if (current != mine) {
+            return current.response().asMono().flatMap(shared -> {
+                if (shared.isEmpty()) {
+                    return chain.filter(exchange);
+                }
+                count(routeId, "coalesced");
+                return serve(exchange.getResponse(), shared.get(), request, "COALESCED");
+            });
+        }
+
+        // Le backend répond toujours en entier (ou 304 sur notre ETag) : la condition du client est évaluée ici
+        CachedResponse revalidated = cached != null && cached.etag() != null ? cached : null;
+        ServerHttpRequest backendRequest = request.mutate().headers(headers -> {
+            headers.remove(HttpHeaders.IF_NONE_MATCH);
+            headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+            if (revalidated != null) {
+                headers.setIfNoneMatch(revalidated.etag());
+            }
+        }).build();
+        CachingResponse response = new CachingResponse(exchange.getResponse(), config, key, mine, revalidated, request);
+        return chain.filter(exchange.mutate().request(backendRequest).response(response).build())
+            .doFinally(signal -> {
+                inFlight.remove(key, mine);
+                mine.response().tryEmitValue(Optional.empty());
+            });
+    }
+
+    /**
+     * Capture la réponse du backend pour la garder, la partager avec les requêtes en attente, puis l'écrire.
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final Config config;
+        private final Key key;
+        private final InFlight call;
+        private final CachedResponse revalidated;
+        private final ServerHttpRequest clientRequest;
+
+        CachingResponse(ServerHttpResponse delegate, Config config, Key key, InFlight call,
+                        CachedResponse revalidated, ServerHttpRequest clientRequest) {
+            super(delegate);
+            this.config = config;
+            this.key = key;
+            this.call = call;
+            this.revalidated = revalidated;
+            this.clientRequest = clientRequest;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            long now = System.currentTimeMillis();
+            HttpHeaders headers = getHeaders();
+
+            if (HttpStatus.NOT_MODIFIED.equals(getStatusCode()) && revalidated != null) {
+                CachedResponse refreshed = revalidated.refresh(CachedResponse.freshUntil(headers, config.getTtl(), now));
+                store(refreshed);
+                call.response().tryEmitValue(Optional.of(refreshed));
+                count(key.routeId(), "revalidated");
+                return Flux.from(body).doOnNext(DataBufferUtils::release)
+                    .then(Mono.defer(() -> serve(getDelegate(), refreshed, clientRequest, "REVALIDATED")));
+            }
+
+            List<String> directives = CachedResponse.directives(headers.getCacheControl());
+            if (!HttpStatus.OK.equals(getStatusCode()) || directives.contains("private")
+                    || MediaType.TEXT_EVENT_STREAM.isCompatibleWith(headers.getContentType())) {
+                call.response().tryEmitValue(Optional.empty());
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body)
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .flatMap(bytes -> {
+                    CachedResponse response = CachedResponse.of(getStatusCode(), headers, bytes,
+                        CachedResponse.freshUntil(headers, config.getTtl(), now));
+                    if (!directives.contains("no-store") && bytes.length <= config.getMaxBodySize().toBytes()) {
+                        store(response);
+                    }
+                    call.response().tryEmitValue(Optional.of(response));
+                    count(key.routeId(), "miss");
+                    return serve(getDelegate(), response, clientRequest, "MISS");
+                });
+        }
+
+        private void store(CachedResponse response) {
+            if (response.etag() == null && !response.isFresh(System.currentTimeMillis())) {
+                return; // Ni fraîche ni revalidable
+            }
+            AtomicLong generation = generation(key.routeId());
+            if (generation.get() != call.generation()) {
+                return;
+            }
+            cache.put(key, response);
+            // Écriture commencée entre la vérification et l'insertion
+            if (generation.get() != call.generation()) {
+                cache.asMap().remove(key, response);
+            }
+        }
+    }
+
+    private Mono<Void> serve(ServerHttpResponse response, CachedResponse cached, ServerHttpRequest request,
+                             String outcome) {
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers());
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        headers.set(X_CACHE, outcome);
+        if (cached.etag() != null && matches(request.getHeaders().getIfNoneMatch(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            return response.setComplete();
+        }
+        response.setStatusCode(cached.status());
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    // Comparaison faible des ETag (RFC 9110, If-None-Match)
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        String opaque = weakless(etag);
+        return ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || weakless(tag).equals(opaque));
+    }
+
+    private static String weakless(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static boolean isEventStream(ServerHttpRequest request) {
+        return request.getHeaders().getAccept().stream().anyMatch(MediaType.TEXT_EVENT_STREAM::equalsTypeAndSubtype);
+    }
+
+    private AtomicLong generation(String routeId) {
+        return generations.computeIfAbsent(routeId, id -> new AtomicLong());
+    }
+
+    private void count(String routeId, String result) {
+        Counter.builder("gateway.response.cache")
+            .description("Requests served by the gateway response cache, by outcome")
+            .tag("route", routeId)
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+}
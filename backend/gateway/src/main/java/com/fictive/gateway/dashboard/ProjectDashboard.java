@@ -0,0 +1,41 @@
+package com.fictive.gateway.dashboard;
+
+import java.util.List;
+
+/**
+ * Vue agrégée d'un projet pour le tableau de bord : projet, tâches avec leurs assignés et plannings,
+ * en une seule réponse. {@code partial} indique qu'un service secondaire (utilisateurs, plannings)
+ * n'a pas répondu à temps : les noms ou les plannings manquants sont alors absents.
+ * {@code planningsTruncated} indique que le projet a plus de plannings que le tableau de bord n'en lit :
+ * seules les premières entrées (par date) sont présentes.
+ */
+public record ProjectDashboard(
+    Long id,
+    Long version,
+    String name,
+    String description,
+    String startDate,
+    String endDate,
+    List<Task> tasks,
+    List<PlanningEntry> plannings,
+    boolean planningsTruncated,
+    boolean partial) {
+
+    public record Task(
+        Long id,
+        String name,
+        int duration,
+        String startDate,
+        String dueDate,
+        String status,
+        int progress,
+        List<Long> predecessorIds,
+        List<Assignee> assignees) {
+    }
+
+    public record Assignee(Long id, String username) {
+    }
+
+    public record PlanningEntry(Long id, String date, Long userId, String username) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.fictive.gateway.dashboard;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Répond à {@code GET /dashboard/projects/{id}} dans la gateway, sans transmettre la requête :
+ * déclaré comme une route, le tableau de bord profite des mêmes filtres (limite de débit, cloison).
+ */
+@Component
+public class ProjectDashboardGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+
+    private final ProjectDashboardService dashboardService;
+    private final ObjectMapper objectMapper;
+
+    public ProjectDashboardGatewayFilterFactory(ProjectDashboardService dashboardService, ObjectMapper objectMapper) {
+        super(Object.class);
+        this.dashboardService = dashboardService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return (exchange, chain) -> {
+            ServerHttpResponse response = exchange.getResponse();
+            long projectId;
+            try {
+                projectId = Long.parseLong(ServerWebExchangeUtils.getUriTemplateVariables(exchange).get("id"));
+            } catch (NumberFormatException e) {
+                response.setStatusCode(HttpStatus.BAD_REQUEST);
+                return response.setComplete();
+            }
+
+            return dashboardService.getDashboard(projectId)
+                .flatMap(dashboard -> {
+                    response.setStatusCode(HttpStatus.OK);
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    response.getHeaders().setCacheControl("no-cache");
+                    return response.writeWith(Mono.just(response.bufferFactory().wrap(toJson(dashboard))));
+                })
+                .onErrorResume(ResponseStatusException.class, e -> {
+                    response.setStatusCode(e.getStatusCode());
+                    return response.setComplete();
+                });
+        };
+    }
+
+    private byte[] toJson(ProjectDashboard dashboard) {
+        try {
+            return objectMapper.writeValueAsBytes(dashboard);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Dashboard serialization failed", e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.fictive.gateway.dashboard;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Construit le tableau de bord d'un projet à partir des trois services.
+ * Le projet (avec ses tâches) et ses plannings sont demandés en parallèle, puis les utilisateurs
+ * référencés (assignés et plannings) par lots d'IDs, au lieu de la liste complète.
+ */
+@Service
+public class ProjectDashboardService {
+
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(3);
+    private static final int PLANNING_PAGE_SIZE = 1000;
+    // Taille maximale d'un lot accepté par le user-service
+    private static final int USER_BATCH_SIZE = 1000;
+    // Au-delà, le tableau de bord affiche les premières entrées seulement (planningsTruncated)
+    static final int MAX_PLANNING_PAGES = 10;
+
+    private final WebClient projects;
+    private final WebClient users;
+    private final WebClient plannings;
+
+    public ProjectDashboardService(WebClient.Builder builder,
+                                   @Value("${PROJECTS_SERVICE_URL:http://localhost:8082}") String projectsUrl,
+                                   @Value("${USERS_SERVICE_URL:http://localhost:8081}") String usersUrl,
+                                   @Value("${PLANNING_SERVICE_URL:http://localhost:8083}") String planningsUrl) {
+        this.projects = builder.clone().baseUrl(projectsUrl).build();
+        this.users = builder.clone().baseUrl(usersUrl).build();
+        this.plannings = builder.clone().baseUrl(planningsUrl).build();
+    }
+
+    // Sous-ensembles des réponses des services : seuls les champs utiles sont lus
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ProjectView(Long id, Long version, String name, String description, String startDate, String endDate,
+                       List<TaskView> tasks) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record TaskView(Long id, String name, int duration, String startDate, String dueDate, String status,
+                    int progress, List<Long> predecessorIds, List<Long> assigneeIds) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record UserView(Long id, String username) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record PlanningView(Long id, String date, Long projectId, Long userId) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record PlanningPage(List<PlanningView> items, String nextCursor) {
+    }
+
+    // Plannings lus et indication qu'il en restait au-delà de MAX_PLANNING_PAGES
+    private record Plannings(List<PlanningView> entries, boolean truncated) {
+    }
+
+    public Mono<ProjectDashboard> getDashboard(long projectId) {
+        Mono<ProjectView> project = fetchProject(projectId);
+        Mono<Optional<Plannings>> projectPlannings = fetchPlannings(projectId);
+
+        return Mono.zip(project, projectPlannings).flatMap(results -> {
+            ProjectView view = results.getT1();
+            List<PlanningView> entries = results.getT2().map(Plannings::entries).orElse(null);
+            boolean truncated = results.getT2().map(Plannings::truncated).orElse(false);
+
+            Set<Long> userIds = new LinkedHashSet<>();
+            for (TaskView task : tasks(view)) {
+                userIds.addAll(ids(task.assigneeIds()));
+            }
+            if (entries != null) {
+                entries.stream().map(PlanningView::userId).filter(Objects::nonNull).forEach(userIds::add);
+            }
+
+            return fetchUsers(userIds).map(found ->
+                assemble(view, entries, found.orElse(Map.of()), truncated, entries == null || found.isEmpty()));
+        });
+    }
+
+    private Mono<ProjectView> fetchProject(long projectId) {
+        return projects.get().uri("/projects/{id}", projectId)
+            .retrieve()
+            .bodyToMono(ProjectView.class)
+            .timeout(CALL_TIMEOUT)
+            .onErrorMap(WebClientResponseException.class,
+                e -> new ResponseStatusException(e.getStatusCode(), "Project service: " + e.getStatusText()))
+            .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                e -> new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Project service unavailable", e));
+    }
+
+    // Plannings du projet, page par page (pagination par clé du planning-service) ; si la dernière page
+    // lue annonce une suite, la liste est tronquée
+    private Mono<Optional<Plannings>> fetchPlannings(long projectId) {
+        return fetchPlanningPage(projectId, null)
+            .expand(page -> page.nextCursor() != null ? fetchPlanningPage(projectId, page.nextCursor()) : Mono.empty())
+            .take(MAX_PLANNING_PAGES)
+            .collectList()
+            .map(pages -> {
+                List<PlanningView> entries = new ArrayList<>();
+                for (PlanningPage page : pages) {
+                    entries.addAll(page.items() != null ? page.items() : List.of());
+                }
+                boolean truncated = !pages.isEmpty() && pages.get(pages.size() - 1).nextCursor() != null;
+                return new Plannings(entries, truncated);
+            })
+            .timeout(CALL_TIMEOUT)
+            .map(Optional::of)
+            .onErrorReturn(Optional.empty());
+    }
+
+    private Mono<PlanningPage> fetchPlanningPage(long projectId, String cursor) {
+        return plannings.get()
+            .uri(uri -> uri.path("/plannings")
+                .queryParam("projectId", projectId)
+                .queryParam("limit", PLANNING_PAGE_SIZE)
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                .build())
+            .retrieve()
+            .bodyToMono(PlanningPage.class);
+    }
+
+    // Utilisateurs référencés résolus par lots (POST /users/lookup), jamais la liste complète
+    private Mono<Optional<Map<Long, UserView>>> fetchUsers(Set<Long> ids) {
+        List<Long> all = List.copyOf(ids);
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += USER_BATCH_SIZE) {
+            batches.add(all.subList(from, Math.min(from + USER_BATCH_SIZE, all.size())));
+        }
+        return Flux.fromIterable(batches)
+            .flatMap(batch -> users.post().uri("/users/lookup")
+                .bodyValue(batch)
+                .retrieve()
+                .bodyToFlux(UserView.class))
+            .collectMap(UserView::id, Function.identity())
+            .timeout(CALL_TIMEOUT)
+            .map(Optional::of)
+            .onErrorReturn(Optional.empty());
+    }
+
+    private ProjectDashboard assemble(ProjectView project, List<PlanningView> entries, Map<Long, UserView> users,
+                                      boolean planningsTruncated, boolean partial) {
+        List<ProjectDashboard.Task> tasks = new ArrayList<>();
+        for (TaskView task : tasks(project)) {
+            List<ProjectDashboard.Assignee> assignees = ids(task.assigneeIds()).stream()
+                .map(id -> new ProjectDashboard.Assignee(id, username(users, id)))
+                .toList();
+            tasks.add(new ProjectDashboard.Task(task.id(), task.name(), task.duration(), task.startDate(),
+                task.dueDate(), task.status(), task.progress(), ids(task.predecessorIds()), assignees));
+        }
+
+        List<ProjectDashboard.PlanningEntry> planningEntries = entries == null ? List.of() : entries.stream()
+            .map(p -> new ProjectDashboard.PlanningEntry(p.id(), p.date(), p.userId(), username(users, p.userId())))
+            .toList();
+
+        return new ProjectDashboard(project.id(), project.version(), project.name(), project.description(),
+            project.startDate(), project.endDate(), tasks, planningEntries, planningsTruncated, partial);
+    }
+
+    private static String username(Map<Long, UserView> users, Long id) {
+        UserView user = id != null ? users.get(id) : null;
+        return user != null ? user.username() : null;
+    }
+
+    private static List<TaskView> tasks(ProjectView project) {
+        return project.tasks() != null ? project.tasks() : List.of();
+    }
+
+    private static List<Long> ids(Collection<Long> ids) {
+        return ids != null ? List.copyOf(ids) : List.of();
+    }
+}
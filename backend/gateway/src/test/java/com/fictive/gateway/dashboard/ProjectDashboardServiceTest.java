@@ -0,0 +1,163 @@
+package com.fictive.gateway.dashboard;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectDashboardServiceTest {
+
+    private static final String PROJECT = """
+        {"id":1,"version":3,"name":"ERP","tasks":[
+          {"id":10,"name":"Analyse","duration":2,"status":"TODO","progress":0,"predecessorIds":[],"assigneeIds":[100,101]},
+          {"id":11,"name":"Dev","duration":5,"status":"TODO","progress":0,"predecessorIds":[10],"assigneeIds":[101]}
+        ]}""";
+    private static final String USERS = """
+        [{"id":100,"username":"alice"},{"id":101,"username":"bob"},{"id":102,"username":"carol"}]""";
+
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+
+    @Test
+    void assemblesProjectPlanningsAndUsernames() {
+        ProjectDashboard dashboard = dashboard(request -> switch (path(request)) {
+            case "/projects/1" -> json(PROJECT);
+            case "/plannings" -> json(page(cursor(request) == null ? "c1" : null,
+                cursor(request) == null ? 1 : 2, 102));
+            case "/users/lookup" -> json(USERS);
+            default -> notFound();
+        });
+
+        assertThat(dashboard.partial()).isFalse();
+        assertThat(dashboard.planningsTruncated()).isFalse();
+        assertThat(dashboard.tasks()).hasSize(2);
+        assertThat(dashboard.tasks().get(0).assignees())
+            .extracting(ProjectDashboard.Assignee::username).containsExactly("alice", "bob");
+        assertThat(dashboard.plannings())
+            .extracting(ProjectDashboard.PlanningEntry::id).containsExactly(1L, 2L);
+        assertThat(dashboard.plannings()).allSatisfy(entry -> assertThat(entry.username()).isEqualTo("carol"));
+        assertThat(calls).containsOnlyOnce("POST /users/lookup").doesNotContain("GET /users");
+    }
+
+    @Test
+    void planningsBeyondThePageLimitAreFlaggedAsTruncated() {
+        ProjectDashboard dashboard = dashboard(request -> switch (path(request)) {
+            case "/projects/1" -> json(PROJECT);
+            // Le planning-service annonce toujours une page suivante
+            case "/plannings" -> json(page("next", calls.size(), 100));
+            case "/users/lookup" -> json(USERS);
+            default -> notFound();
+        });
+
+        assertThat(dashboard.planningsTruncated()).isTrue();
+        assertThat(dashboard.partial()).isFalse();
+        assertThat(dashboard.plannings()).hasSize(ProjectDashboardService.MAX_PLANNING_PAGES);
+        assertThat(calls.stream().filter(call -> call.equals("GET /plannings")))
+            .hasSize(ProjectDashboardService.MAX_PLANNING_PAGES);
+    }
+
+    @Test
+    void aLastPageWithoutCursorIsNotTruncated() {
+        ProjectDashboard dashboard = dashboard(request -> switch (path(request)) {
+            case "/projects/1" -> json(PROJECT);
+            case "/plannings" -> {
+                int page = cursor(request) == null ? 1 : Integer.parseInt(cursor(request));
+                yield json(page(page < ProjectDashboardService.MAX_PLANNING_PAGES ? String.valueOf(page + 1) : null,
+                    page, 100));
+            }
+            case "/users/lookup" -> json(USERS);
+            default -> notFound();
+        });
+
+        assertThat(dashboard.planningsTruncated()).isFalse();
+        assertThat(dashboard.plannings()).hasSize(ProjectDashboardService.MAX_PLANNING_PAGES);
+    }
+
+    @Test
+    void aMissingLookupEndpointYieldsAPartialDashboardWithoutListingAllUsers() {
+        ProjectDashboard dashboard = dashboard(request -> switch (path(request)) {
+            case "/projects/1" -> json(PROJECT);
+            case "/plannings" -> json(page(null, 1, 100));
+            default -> notFound();
+        });
+
+        assertThat(dashboard.partial()).isTrue();
+        assertThat(dashboard.tasks().get(0).assignees())
+            .extracting(ProjectDashboard.Assignee::username).containsOnlyNulls();
+        assertThat(calls).contains("POST /users/lookup").doesNotContain("GET /users");
+    }
+
+    @Test
+    void anUnavailablePlanningServiceYieldsAPartialDashboard() {
+        ProjectDashboard dashboard = dashboard(request -> switch (path(request)) {
+            case "/projects/1" -> json(PROJECT);
+            case "/users/lookup" -> json(USERS);
+            default -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+        });
+
+        assertThat(dashboard.partial()).isTrue();
+        assertThat(dashboard.planningsTruncated()).isFalse();
+        assertThat(dashboard.plannings()).isEmpty();
+        assertThat(dashboard.tasks().get(1).assignees().get(0).username()).isEqualTo("bob");
+    }
+
+    @Test
+    void anUnknownProjectIsA404() {
+        ProjectDashboardService service = service(request -> notFound());
+
+        assertThatThrownBy(() -> service.getDashboard(1).block())
+            .isInstanceOf(ResponseStatusException.class)
+            .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    private ProjectDashboard dashboard(Function<ClientRequest, Mono<ClientResponse>> handler) {
+        return service(handler).getDashboard(1).block();
+    }
+
+    private ProjectDashboardService service(Function<ClientRequest, Mono<ClientResponse>> handler) {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            calls.add(request.method().name() + " " + path(request));
+            return handler.apply(request);
+        });
+        return new ProjectDashboardService(builder, "http://projects", "http://users", "http://plannings");
+    }
+
+    private static String path(ClientRequest request) {
+        return request.url().getPath();
+    }
+
+    private static String cursor(ClientRequest request) {
+        Map<String, List<String>> params = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+        return params.containsKey("cursor") ? params.get("cursor").get(0) : null;
+    }
+
+    private static String page(String nextCursor, long planningId, long userId) {
+        String cursor = nextCursor != null ? "\"" + nextCursor + "\"" : "null";
+        return "{\"items\":[{\"id\":" + planningId + ",\"date\":\"2025-01-06\",\"projectId\":1,\"userId\":" + userId
+            + "}],\"nextCursor\":" + cursor + "}";
+    }
+
+    private static Mono<ClientResponse> json(String body) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body(body)
+            .build());
+    }
+
+    private static Mono<ClientResponse> notFound() {
+        return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+    }
+}
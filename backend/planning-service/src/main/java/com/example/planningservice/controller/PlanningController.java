@@ -1,22 +1,64 @@
 package com.example.planningservice.controller;
 
+import com.example.planningservice.dto.KeysetPageDTO;
 import com.example.planningservice.model.Planning;
+import com.example.planningservice.repository.PlanningQueryRepository;
 import com.example.planningservice.repository.PlanningRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
 @RequestMapping("/plannings")
 public class PlanningController {
 
+    private static final int DEFAULT_PAGE_SIZE = 200;
+
     @Autowired
     private PlanningRepository planningRepository;
 
+    @Autowired
+    private PlanningQueryRepository planningQueryRepository;
+
+    // Sans limit ni cursor, la réponse reste un tableau, filtré si des critères sont fournis
     @GetMapping
-    public List<Planning> getAllPlannings() {
-        return planningRepository.findAll();
+    public List<Planning> getAllPlannings(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        PlanningQueryRepository.Filter filter = new PlanningQueryRepository.Filter(userId, projectId, from, to);
+        if (filter.isEmpty()) {
+            return planningRepository.findAll();
+        }
+        return planningQueryRepository.findAll(filter);
+    }
+
+    // Vue calendrier : plannings d'un utilisateur et/ou d'un projet sur [from, to[, page par page
+    @GetMapping(params = "limit")
+    public KeysetPageDTO<Planning> getPlanningPage(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit) {
+        return planningQueryRepository.findPage(
+            new PlanningQueryRepository.Filter(userId, projectId, from, to), cursor, limit);
+    }
+
+    // Page suivante demandée avec le seul curseur : taille de page par défaut
+    @GetMapping(params = {"cursor", "!limit"})
+    public KeysetPageDTO<Planning> getNextPlanningPage(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam String cursor) {
+        return getPlanningPage(userId, projectId, from, to, cursor, DEFAULT_PAGE_SIZE);
     }
 
     @PostMapping
@@ -0,0 +1,26 @@
+package com.example.planningservice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Page d'une pagination par clé : nextCursor est à renvoyer tel quel pour obtenir la page suivante,
+ * il est null sur la dernière page.
+ */
+public class KeysetPageDTO<T> {
+    private List<T> items = new ArrayList<>();
+    private String nextCursor;
+
+    public KeysetPageDTO() {}
+
+    public KeysetPageDTO(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "planning")
+// Vues calendrier : entrées d'un utilisateur ou d'un projet sur une période, triées par date (puis id)
+@Table(name = "planning", indexes = {
+    @Index(name = "idx_planning_user_date_id", columnList = "userId, date, id"),
+    @Index(name = "idx_planning_project_date_id", columnList = "projectId, date, id")
+})
 public class Planning {
 
     @Id
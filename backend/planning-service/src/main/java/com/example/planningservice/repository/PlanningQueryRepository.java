@@ -0,0 +1,136 @@
+package com.example.planningservice.repository;
+
+import com.example.planningservice.dto.KeysetPageDTO;
+import com.example.planningservice.model.Planning;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Plannings d'un utilisateur ou d'un projet sur une période [from, to[, triés par date puis id.
+ * Chaque requête est une lecture d'intervalle sur l'index (user_id, date, id) ou (project_id, date, id) ;
+ * la pagination par clé (date, id) garde ce coût constant d'une page à l'autre.
+ */
+@Repository
+public class PlanningQueryRepository {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PlanningQueryRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record Filter(Long userId, Long projectId, LocalDateTime from, LocalDateTime to) {
+
+        public boolean isEmpty() {
+            return userId == null && projectId == null && from == null && to == null;
+        }
+    }
+
+    private static final RowMapper<Planning> PLANNING_ROW = (rs, rowNum) -> {
+        Planning planning = new Planning(rs.getObject("date", LocalDateTime.class),
+            rs.getObject("project_id", Long.class), rs.getObject("user_id", Long.class));
+        planning.setId(rs.getLong("id"));
+        return planning;
+    };
+
+    /**
+     * Toutes les entrées correspondant au filtre, sans pagination : réservé aux appelants historiques
+     * de GET /plannings qui attendent un tableau.
+     */
+    public List<Planning> findAll(Filter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> conditions = conditions(filter, params);
+        return jdbcTemplate.query(select(conditions), params, PLANNING_ROW);
+    }
+
+    public KeysetPageDTO<Planning> findPage(Filter filter, String cursor, int limit) {
+        if (filter.userId() == null && filter.projectId() == null) {
+            throw new RuntimeException("userId or projectId is required");
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> conditions = conditions(filter, params);
+        if (cursor != null && !cursor.isEmpty()) {
+            Cursor position = Cursor.decode(cursor);
+            conditions.add("(p.date, p.id) > (:afterDate, :afterId)");
+            params.addValue("afterDate", Timestamp.valueOf(position.date()));
+            params.addValue("afterId", position.id());
+        }
+        params.addValue("limit", pageSize + 1);
+
+        List<Planning> items = jdbcTemplate.query(select(conditions) + " limit :limit", params, PLANNING_ROW);
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = new ArrayList<>(items.subList(0, pageSize));
+            Planning last = items.get(pageSize - 1);
+            nextCursor = new Cursor(last.getId(), last.getDate()).encode();
+        }
+        return new KeysetPageDTO<>(items, nextCursor);
+    }
+
+    private static List<String> conditions(Filter filter, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.userId() != null) {
+            conditions.add("p.user_id = :userId");
+            params.addValue("userId", filter.userId());
+        }
+        if (filter.projectId() != null) {
+            conditions.add("p.project_id = :projectId");
+            params.addValue("projectId", filter.projectId());
+        }
+        if (filter.from() != null) {
+            conditions.add("p.date >= :from");
+            params.addValue("from", Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            conditions.add("p.date < :to");
+            params.addValue("to", Timestamp.valueOf(filter.to()));
+        }
+        return conditions;
+    }
+
+    // Les entrées sans date ne figurent dans aucune période
+    private static String select(List<String> conditions) {
+        StringBuilder sql = new StringBuilder("select p.id, p.date, p.project_id, p.user_id from planning p"
+            + " where p.date is not null");
+        for (String condition : conditions) {
+            sql.append(" and ").append(condition);
+        }
+        return sql.append(" order by p.date, p.id").toString();
+    }
+
+    /**
+     * Position opaque dans la liste : id et date du dernier planning renvoyé.
+     */
+    private record Cursor(Long id, LocalDateTime date) {
+
+        String encode() {
+            String raw = id + ":" + date;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new Cursor(Long.valueOf(raw.substring(0, separator)),
+                    LocalDateTime.parse(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
+    }
+}
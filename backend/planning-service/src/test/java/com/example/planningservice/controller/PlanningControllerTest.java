@@ -0,0 +1,92 @@
+package com.example.planningservice.controller;
+
+import com.example.planningservice.dto.KeysetPageDTO;
+import com.example.planningservice.model.Planning;
+import com.example.planningservice.repository.PlanningQueryRepository;
+import com.example.planningservice.repository.PlanningRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PlanningController.class)
+class PlanningControllerTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 2, 3, 9, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PlanningRepository planningRepository;
+
+    @MockitoBean
+    private PlanningQueryRepository planningQueryRepository;
+
+    @Test
+    void withoutFilterTheFullListIsAnArray() throws Exception {
+        when(planningRepository.findAll()).thenReturn(List.of(planning(1L), planning(2L)));
+
+        mockMvc.perform(get("/plannings"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$.length()").value(2));
+        verifyNoInteractions(planningQueryRepository);
+    }
+
+    @Test
+    void aFilterWithoutLimitOrCursorStillReturnsAnArray() throws Exception {
+        PlanningQueryRepository.Filter filter = new PlanningQueryRepository.Filter(null, 7L, null, null);
+        when(planningQueryRepository.findAll(filter)).thenReturn(List.of(planning(1L)));
+
+        mockMvc.perform(get("/plannings").param("projectId", "7"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$[0].id").value(1));
+    }
+
+    @Test
+    void aLimitReturnsAPage() throws Exception {
+        PlanningQueryRepository.Filter filter = new PlanningQueryRepository.Filter(3L, null, DATE, DATE.plusDays(7));
+        when(planningQueryRepository.findPage(filter, null, 50))
+            .thenReturn(new KeysetPageDTO<>(List.of(planning(1L)), "next"));
+
+        mockMvc.perform(get("/plannings").param("userId", "3").param("limit", "50")
+                .param("from", "2025-02-03T09:00:00").param("to", "2025-02-10T09:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].id").value(1))
+            .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void aCursorAloneReturnsTheNextPageWithTheDefaultSize() throws Exception {
+        when(planningQueryRepository.findPage(any(), eq("next"), anyInt()))
+            .thenReturn(new KeysetPageDTO<>(List.of(planning(2L)), null));
+
+        mockMvc.perform(get("/plannings").param("projectId", "7").param("cursor", "next"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].id").value(2))
+            .andExpect(jsonPath("$.nextCursor").isEmpty());
+        verify(planningQueryRepository).findPage(new PlanningQueryRepository.Filter(null, 7L, null, null), "next", 200);
+    }
+
+    private static Planning planning(Long id) {
+        Planning planning = new Planning(DATE, 7L, 3L);
+        planning.setId(id);
+        return planning;
+    }
+}
@@ -0,0 +1,20 @@
+#!/usr/bin/env bash
+# Lance les benchmarks JMH et exporte les résultats en JSON dans results/<commit>.json
+# (comparables entre deux commits, par exemple avec https://jmh.morethan.io).
+#
+#   ./run-benchmarks.sh                          # tous les benchmarks, toutes les tailles
+#   ./run-benchmarks.sh Scheduling -p size=1000  # arguments JMH supplémentaires
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+# Le module dépend du jar de project-service installé dans le dépôt Maven local
+(cd ../project-service && mvn -B -q install -DskipTests)
+mvn -B -q package
+
+mkdir -p results
+revision=$(git rev-parse --short HEAD 2>/dev/null || echo local)
+output="results/${revision}.json"
+
+java -jar target/benchmarks.jar -rf json -rff "$output" "$@"
+echo "Résultats : $output"
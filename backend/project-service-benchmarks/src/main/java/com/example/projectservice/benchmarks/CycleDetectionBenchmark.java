@@ -0,0 +1,64 @@
+package com.example.projectservice.benchmarks;
+
+import com.example.projectservice.scheduling.DependencyIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Détection de cycle à l'ajout d'une dépendance ({@link DependencyIndex#wouldCreateCycle}).
+ * randomPair : couples tirés au hasard, la plupart écartés par l'ordre topologique sans parcours.
+ * closingCycle : la racine dépendrait de la dernière tâche, le pire cas (parcours de tout ce qui est atteignable).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CycleDetectionBenchmark {
+
+    private static final int PAIRS = 4096;
+
+    @Param({"CHAIN", "FAN_OUT", "RANDOM"})
+    public SyntheticDag.Shape shape;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private SyntheticDag dag;
+    private DependencyIndex index;
+    private Long[] taskIds;
+    private Long[] predecessorIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dag = SyntheticDag.generate(shape, size);
+        index = DependencyIndex.build(dag.ids, dag.edges);
+        SplittableRandom random = new SplittableRandom(7);
+        taskIds = new Long[PAIRS];
+        predecessorIds = new Long[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            taskIds[i] = dag.ids[random.nextInt(size)];
+            predecessorIds[i] = dag.ids[random.nextInt(size)];
+        }
+    }
+
+    @Benchmark
+    public DependencyIndex buildIndex() {
+        return DependencyIndex.build(dag.ids, dag.edges);
+    }
+
+    @Benchmark
+    public boolean randomPair() {
+        int i = next++ & (PAIRS - 1);
+        return index.wouldCreateCycle(taskIds[i], predecessorIds[i]);
+    }
+
+    @Benchmark
+    public boolean closingCycle() {
+        return index.wouldCreateCycle(dag.ids[0], dag.ids[size - 1]);
+    }
+}
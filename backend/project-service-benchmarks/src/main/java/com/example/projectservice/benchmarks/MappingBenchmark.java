@@ -0,0 +1,105 @@
+package com.example.projectservice.benchmarks;
+
+import com.example.projectservice.dto.ProjectDTO;
+import com.example.projectservice.dto.TaskDTO;
+import com.example.projectservice.mapper.ProjectMapperImpl;
+import com.example.projectservice.mapper.TaskMapper;
+import com.example.projectservice.mapper.TaskMapperImpl;
+import com.example.projectservice.model.Project;
+import com.example.projectservice.model.Task;
+import com.example.projectservice.scheduling.TaskEdge;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion entités -> DTO ({@link TaskMapper#toDtoList}, {@link ProjectMapperImpl#toDtoList})
+ * et sérialisation JSON de la réponse, sur un projet dont les tâches suivent la forme du graphe.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({"CHAIN", "FAN_OUT", "RANDOM"})
+    public SyntheticDag.Shape shape;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private final ProjectMapperImpl projectMapper = new ProjectMapperImpl();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<Task> tasks;
+    private List<Project> projects;
+    private List<ProjectDTO> projectDtos;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        // Le mapper de tâches est injecté par Spring dans l'application
+        Field field = ProjectMapperImpl.class.getDeclaredField("taskMapper");
+        field.setAccessible(true);
+        field.set(projectMapper, taskMapper);
+
+        SyntheticDag dag = SyntheticDag.generate(shape, size);
+        Project project = Project.builder()
+            .id(1L)
+            .version(0L)
+            .name("Benchmark")
+            .description(shape + " / " + size)
+            .startDate(SyntheticDag.PROJECT_START)
+            .build();
+
+        List<Task> byId = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            byId.add(Task.builder()
+                .id(dag.ids[i])
+                .version(0L)
+                .name("Task " + dag.ids[i])
+                .duration(dag.durations[i])
+                .startDate(SyntheticDag.PROJECT_START.plusDays(i % 365))
+                .dueDate(SyntheticDag.PROJECT_START.plusDays(i % 365 + dag.durations[i]))
+                .status(Task.TaskStatus.TODO)
+                .assigneeIds(new ArrayList<>(List.of((long) (i % 20 + 1))))
+                .project(project)
+                .build());
+        }
+        for (TaskEdge edge : dag.edges) {
+            byId.get((int) (edge.taskId() - 1)).getPredecessors().add(byId.get((int) (edge.predecessorId() - 1)));
+        }
+        project.setTasks(byId);
+
+        tasks = byId;
+        projects = List.of(project);
+        projectDtos = projectMapper.toDtoList(projects);
+    }
+
+    @Benchmark
+    public List<TaskDTO> taskToDtoList() {
+        return taskMapper.toDtoList(tasks);
+    }
+
+    @Benchmark
+    public List<ProjectDTO> projectToDtoList() {
+        return projectMapper.toDtoList(projects);
+    }
+
+    @Benchmark
+    public byte[] serializeProjects() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(projectDtos);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeProjects() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(projectMapper.toDtoList(projects));
+    }
+}
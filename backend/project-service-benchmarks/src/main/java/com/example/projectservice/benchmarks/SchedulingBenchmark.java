@@ -0,0 +1,84 @@
+package com.example.projectservice.benchmarks;
+
+import com.example.projectservice.scheduling.CriticalPathAnalysis;
+import com.example.projectservice.scheduling.TaskGraph;
+import com.example.projectservice.scheduling.TaskSchedule;
+import com.example.projectservice.scheduling.TaskScheduleRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recalcul des dates (équivalent de TaskSchedulingService, sans la base) :
+ * construction du graphe CSR, passe complète, propagation depuis la racine après
+ * modification de sa durée, et analyse du chemin critique.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchedulingBenchmark {
+
+    @Param({"CHAIN", "FAN_OUT", "RANDOM"})
+    public SyntheticDag.Shape shape;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private SyntheticDag dag;
+    private TaskGraph graph;
+    private List<TaskScheduleRow> rows;
+    private List<TaskScheduleRow> rowsWithLongerRoot;
+    private int root;
+    private int[] durationByNode;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dag = SyntheticDag.generate(shape, size);
+        graph = TaskGraph.build(dag.ids, dag.edges);
+        rows = dag.scheduleRows();
+
+        root = graph.indexOf(dag.ids[0]);
+        durationByNode = new int[graph.size()];
+        for (int i = 0; i < dag.ids.length; i++) {
+            durationByNode[graph.indexOf(dag.ids[i])] = dag.durations[i];
+        }
+
+        // Dates déjà calculées, puis durée de la racine allongée : la propagation doit tout décaler
+        TaskSchedule schedule = TaskSchedule.of(graph, rows, SyntheticDag.PROJECT_START);
+        schedule.computeAll();
+        rowsWithLongerRoot = new ArrayList<>(rows.size());
+        for (TaskScheduleRow row : rows) {
+            int node = graph.indexOf(row.id());
+            int duration = node == root ? row.duration() + 5 : row.duration();
+            rowsWithLongerRoot.add(new TaskScheduleRow(row.id(), row.name(), duration,
+                schedule.startDate(node), schedule.dueDate(node)));
+        }
+    }
+
+    @Benchmark
+    public TaskGraph buildGraph() {
+        return TaskGraph.build(dag.ids, dag.edges);
+    }
+
+    @Benchmark
+    public BitSet computeAll() {
+        return TaskSchedule.of(graph, rows, SyntheticDag.PROJECT_START).computeAll();
+    }
+
+    @Benchmark
+    public BitSet propagateFromRoot() {
+        TaskSchedule schedule = TaskSchedule.of(graph, rowsWithLongerRoot, SyntheticDag.PROJECT_START);
+        return schedule.propagateFrom(root);
+    }
+
+    @Benchmark
+    public CriticalPathAnalysis criticalPath() {
+        return CriticalPathAnalysis.run(graph, durationByNode);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.projectservice.benchmarks;
+
+import com.example.projectservice.scheduling.TaskEdge;
+import com.example.projectservice.scheduling.TaskScheduleRow;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Graphe de tâches synthétique, généré de façon déterministe (graine fixe) pour que
+ * les mesures soient comparables d'une exécution à l'autre.
+ * Les IDs sont 1..n et chaque arc va d'une tâche vers un prédécesseur d'ID inférieur : le graphe est acyclique.
+ */
+public final class SyntheticDag {
+
+    /**
+     * Forme du graphe.
+     * CHAIN : chaque tâche dépend de la précédente (profondeur maximale).
+     * FAN_OUT : une racine dont dépendent toutes les autres tâches (largeur maximale).
+     * RANDOM : chaque tâche dépend de 0 à 3 tâches antérieures proches (graphe de projet réaliste).
+     */
+    public enum Shape { CHAIN, FAN_OUT, RANDOM }
+
+    static final LocalDate PROJECT_START = LocalDate.of(2025, 1, 6);
+
+    private static final long SEED = 42;
+    private static final int RANDOM_MAX_PREDECESSORS = 3;
+    private static final int RANDOM_WINDOW = 50;
+
+    final long[] ids;
+    final List<TaskEdge> edges;
+    final int[] durations;
+
+    private SyntheticDag(long[] ids, List<TaskEdge> edges, int[] durations) {
+        this.ids = ids;
+        this.edges = edges;
+        this.durations = durations;
+    }
+
+    static SyntheticDag generate(Shape shape, int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        long[] ids = new long[size];
+        int[] durations = new int[size];
+        List<TaskEdge> edges = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ids[i] = i + 1;
+            durations[i] = 1 + random.nextInt(10);
+            if (i == 0) {
+                continue;
+            }
+            switch (shape) {
+                case CHAIN -> edges.add(new TaskEdge(ids[i], ids[i - 1]));
+                case FAN_OUT -> edges.add(new TaskEdge(ids[i], ids[0]));
+                case RANDOM -> {
+                    int count = random.nextInt(RANDOM_MAX_PREDECESSORS + 1);
+                    int window = Math.min(i, RANDOM_WINDOW);
+                    long previous = -1;
+                    for (int k = 0; k < count; k++) {
+                        long predecessor = ids[i - 1 - random.nextInt(window)];
+                        if (predecessor != previous) {
+                            edges.add(new TaskEdge(ids[i], predecessor));
+                            previous = predecessor;
+                        }
+                    }
+                }
+            }
+        }
+        return new SyntheticDag(ids, edges, durations);
+    }
+
+    /**
+     * Lignes de planification sans dates : un calcul complet les renseigne toutes.
+     */
+    List<TaskScheduleRow> scheduleRows() {
+        List<TaskScheduleRow> rows = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            rows.add(new TaskScheduleRow(ids[i], "Task " + ids[i], durations[i], null, null));
+        }
+        return rows;
+    }
+}
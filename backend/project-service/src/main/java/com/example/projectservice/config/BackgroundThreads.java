@@ -0,0 +1,40 @@
+package com.example.projectservice.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads des exécuteurs propres au service (envoi SSE, recalculs). Quand spring.threads.virtual.enabled
+ * est actif sur Java 21+, ce sont des threads virtuels, comme pour Tomcat et l'exécuteur @Async ;
+ * sinon des threads plateforme démons.
+ */
+@Component
+public class BackgroundThreads {
+
+    private final boolean virtual;
+
+    public BackgroundThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public ThreadFactory factory(String prefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+        AtomicInteger threads = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.projectservice.config;
+
+import com.example.projectservice.metrics.HibernateRequestStatistics;
+import com.example.projectservice.metrics.RequestStatisticsFilter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métriques applicatives exportées au format Prometheus (/actuator/prometheus) :
+ * timers @Timed des services, compteurs Hibernate par requête HTTP.
+ * Les métriques Hikari, Hibernate globales et HTTP sont fournies par l'auto-configuration.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateRequestStatistics() {
+        HibernateRequestStatistics statistics = new HibernateRequestStatistics();
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, statistics);
+            properties.put(AvailableSettings.INTERCEPTOR, statistics);
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilter(MeterRegistry registry) {
+        FilterRegistrationBean<RequestStatisticsFilter> registration =
+            new FilterRegistrationBean<>(new RequestStatisticsFilter(registry));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
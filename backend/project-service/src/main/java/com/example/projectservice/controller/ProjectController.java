@@ -1,23 +1,60 @@
 package com.example.projectservice.controller;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.example.projectservice.dto.ConflictDTO;
+import com.example.projectservice.dto.CriticalPathDTO;
+import com.example.projectservice.dto.ImportErrorDTO;
+import com.example.projectservice.dto.KeysetPageDTO;
+import com.example.projectservice.dto.PatchErrorDTO;
 import com.example.projectservice.dto.ProjectDTO;
+import com.example.projectservice.dto.ProjectSummaryDTO;
+import com.example.projectservice.dto.RecalculationJobDTO;
 import com.example.projectservice.dto.TaskDTO;
+import com.example.projectservice.dto.TaskDeltaDTO;
+import com.example.projectservice.dto.TaskImportResultDTO;
+import com.example.projectservice.exception.ConflictException;
+import com.example.projectservice.exception.InvalidImportException;
+import com.example.projectservice.exception.InvalidPatchException;
+import com.example.projectservice.mapper.MergePatchMapper;
 import com.example.projectservice.mapper.ProjectMapper;
 import com.example.projectservice.mapper.TaskMapper;
 import com.example.projectservice.model.Project;
 import com.example.projectservice.model.Task;
+import com.example.projectservice.repository.ProjectSummaryRepository;
+import com.example.projectservice.service.ProjectEventService;
+import com.example.projectservice.service.ProjectReadService;
 import com.example.projectservice.service.ProjectService;
+import com.example.projectservice.service.RecalculationJobService;
+import com.example.projectservice.service.TaskImportService;
+import com.example.projectservice.service.TaskSchedulingService;
+
+import com.fasterxml.jackson.databind.JsonNode;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,8 +63,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProjectController {
     private final ProjectService service;
+    private final ProjectReadService readService;
+    private final TaskSchedulingService schedulingService;
+    private final TaskImportService importService;
+    private final ProjectEventService eventService;
+    private final RecalculationJobService recalculationJobs;
     private final ProjectMapper projectMapper;
     private final TaskMapper taskMapper;
+    private final MergePatchMapper mergePatchMapper;
+
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
 
 
     // ----- Project endpoints -----
@@ -37,10 +82,26 @@ public class ProjectController {
         return projectMapper.toDtoList(projects);
     }
 
+    @GetMapping("/summary")
+    public KeysetPageDTO<ProjectSummaryDTO> getProjectSummaries(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return service.getProjectSummaries(new ProjectSummaryRepository.Filter(name, from, to),
+            sort, "desc".equalsIgnoreCase(direction), cursor, limit);
+    }
+
     @GetMapping("/{id}")
-    public ProjectDTO getProject(@PathVariable Long id) {
-        Project project = service.getProject(id).orElseThrow(() -> new RuntimeException("Project not found"));
-        return projectMapper.toDto(project);
+    public ProjectDTO getProject(@PathVariable Long id, WebRequest request) {
+        long revision = readService.getRevision(id);
+        if (request.checkNotModified(ProjectReadService.etag(revision))) {
+            return null;
+        }
+        return readService.getProject(id, revision);
     }
 
     @PostMapping
@@ -58,6 +119,13 @@ public class ProjectController {
         return projectMapper.toDto(savedProject);
     }
 
+    // JSON Merge Patch : seuls les champs présents sont modifiés, les tâches ne sont ni chargées ni réécrites
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ProjectDTO patchProject(@PathVariable Long id, @RequestBody JsonNode patch) {
+        Project project = service.patchProject(id, mergePatchMapper.projectChanges(patch), mergePatchMapper.version(patch));
+        return projectMapper.toDtoWithoutTasks(project);
+    }
+
     @DeleteMapping("/{id}")
     public void deleteProject(@PathVariable Long id) {
         service.deleteProject(id);
@@ -65,9 +133,18 @@ public class ProjectController {
 
     // ----- Task endpoints -----
     @GetMapping("/{id}/tasks")
-    public List<TaskDTO> getTasks(@PathVariable Long id) {
-        List<Task> tasks = service.getTasksByProject(id);
-        return taskMapper.toDtoList(tasks);
+    public List<TaskDTO> getTasks(@PathVariable Long id, WebRequest request) {
+        long revision = readService.getRevision(id);
+        if (request.checkNotModified(ProjectReadService.etag(revision))) {
+            return null;
+        }
+        return readService.getTasks(id, revision);
+    }
+
+    // Synchronisation incrémentale : seulement les tâches modifiées ou supprimées depuis la révision "since"
+    @GetMapping(value = "/{id}/tasks", params = "since")
+    public TaskDeltaDTO getTaskChanges(@PathVariable Long id, @RequestParam long since) {
+        return readService.getTaskChanges(id, since);
     }
 
     @PostMapping("/{id}/tasks")
@@ -75,6 +152,12 @@ public class ProjectController {
         return taskMapper.toDto(service.addTask(id, taskMapper.toEntity(taskDto)));
     }
 
+    // Import en masse : tableau JSON ou NDJSON de tâches se référençant par clé client
+    @PostMapping(value = "/{id}/tasks:bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public TaskImportResultDTO importTasks(@PathVariable Long id, InputStream body) {
+        return importService.importTasks(id, body);
+    }
+
     @PutMapping("/{projectId}/tasks/{taskId}")
     public TaskDTO updateTask(@PathVariable Long projectId, @PathVariable Long taskId, @RequestBody TaskDTO taskDto) {
         Task task = taskMapper.toEntity(taskDto);
@@ -82,6 +165,12 @@ public class ProjectController {
         return taskMapper.toDto(updatedTask);
     }
 
+    @PatchMapping(value = "/{projectId}/tasks/{taskId}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public TaskDTO patchTask(@PathVariable Long projectId, @PathVariable Long taskId, @RequestBody JsonNode patch) {
+        Task task = service.patchTask(taskId, mergePatchMapper.taskChanges(patch), mergePatchMapper.version(patch));
+        return taskMapper.toDto(task);
+    }
+
     @DeleteMapping("/{projectId}/tasks/{taskId}")
     public void deleteTask(@PathVariable Long projectId, @PathVariable Long taskId) {
         service.deleteTask(taskId);
@@ -107,8 +196,74 @@ public class ProjectController {
         return taskMapper.toDto(task);
     }
 
+    @GetMapping("/{id}/critical-path")
+    public CriticalPathDTO getCriticalPath(@PathVariable Long id) {
+        return schedulingService.analyzeCriticalPath(id);
+    }
+
+    // Flux SSE des changements du projet ; après une reconnexion, le client se resynchronise avec ?since=
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@PathVariable Long id) {
+        readService.getRevision(id); // Vérifie que le projet existe
+        return eventService.subscribe(id);
+    }
+
+    // Recalcul en arrière-plan : 202 avec le job, dont le statut se consulte via l'en-tête Location
     @PostMapping("/{projectId}/recalculate-dates")
-    public void recalculateProjectDates(@PathVariable Long projectId) {
-        service.recalculateProjectDates(projectId);
+    public ResponseEntity<RecalculationJobDTO> recalculateProjectDates(@PathVariable Long projectId) {
+        RecalculationJobDTO job = recalculationJobs.submit(projectId);
+        return ResponseEntity.accepted()
+            .location(URI.create("/projects/" + projectId + "/recalculation-jobs/" + job.getId()))
+            .body(job);
+    }
+
+    @GetMapping("/{projectId}/recalculation-jobs/{jobId}")
+    public RecalculationJobDTO getRecalculationJob(@PathVariable Long projectId, @PathVariable String jobId) {
+        return recalculationJobs.getJob(projectId, jobId);
+    }
+
+    // ----- Conflits de version (409 avec l'état courant), import invalide (400) -----
+
+    @ExceptionHandler(ConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ConflictDTO handleConflict(ConflictException e) {
+        return conflict(e.getMessage(), e.getEntity(), e.getId(), e.getFields());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ConflictDTO handleOptimisticLock(ObjectOptimisticLockingFailureException e) {
+        String className = e.getPersistentClassName();
+        String entity = className != null ? className.substring(className.lastIndexOf('.') + 1) : null;
+        Long id = e.getIdentifier() instanceof Long identifier ? identifier : null;
+        return conflict(entity + " was modified concurrently", entity, id, Set.of());
+    }
+
+    @ExceptionHandler(InvalidImportException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ImportErrorDTO handleInvalidImport(InvalidImportException e) {
+        return ImportErrorDTO.builder().message(e.getMessage()).record(e.getRecord()).build();
+    }
+
+    @ExceptionHandler(InvalidPatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public PatchErrorDTO handleInvalidPatch(InvalidPatchException e) {
+        return PatchErrorDTO.builder().message(e.getMessage()).field(e.getField()).build();
+    }
+
+    private ConflictDTO conflict(String message, String entity, Long id, Set<String> fields) {
+        Object current = null;
+        if (id != null && "Task".equals(entity)) {
+            current = service.getTask(id).map(taskMapper::toDto).orElse(null);
+        } else if (id != null && "Project".equals(entity) && service.getProject(id).isPresent()) {
+            current = readService.getProject(id, readService.getRevision(id));
+        }
+        return ConflictDTO.builder()
+            .message(message)
+            .entity(entity)
+            .id(id)
+            .fields(new ArrayList<>(fields))
+            .current(current)
+            .build();
     }
 }
@@ -0,0 +1,21 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réponse 409 : champs en conflit et état courant de l'entité, à partir duquel le client peut réessayer.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConflictDTO {
+    private String message;
+    private String entity; // Task ou Project
+    private Long id;
+    @Builder.Default
+    private List<String> fields = new ArrayList<>();
+    private Object current; // TaskDTO ou ProjectDTO, null si l'entité a été supprimée
+}
@@ -0,0 +1,22 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CriticalPathDTO {
+    private Long projectId;
+    private String startDate; // ISO date string
+    private String endDate; // Fin au plus tôt du projet
+    private int duration; // en jours
+
+    @Builder.Default
+    private List<Long> criticalTaskIds = new ArrayList<>(); // Tâches critiques, en ordre topologique
+
+    @Builder.Default
+    private List<TaskSlackDTO> tasks = new ArrayList<>();
+}
@@ -0,0 +1,15 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+
+/**
+ * Réponse 400 d'un import en masse : enregistrement fautif et raison du refus.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportErrorDTO {
+    private String message;
+    private Integer record; // Position dans le lot (à partir de 1), null si l'erreur porte sur tout le lot
+}
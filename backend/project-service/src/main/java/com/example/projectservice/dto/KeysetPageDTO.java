@@ -0,0 +1,19 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Page d'une pagination par clé : nextCursor est à renvoyer tel quel pour obtenir la page suivante,
+ * il est null sur la dernière page.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeysetPageDTO<T> {
+    @Builder.Default
+    private List<T> items = new ArrayList<>();
+    private String nextCursor;
+}
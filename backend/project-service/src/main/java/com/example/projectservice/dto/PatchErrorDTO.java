@@ -0,0 +1,15 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+
+/**
+ * Réponse 400 d'un merge patch : champ fautif et raison du refus.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PatchErrorDTO {
+    private String message;
+    private String field; // null si l'erreur porte sur le document entier
+}
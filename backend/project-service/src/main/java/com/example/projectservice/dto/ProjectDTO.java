@@ -9,6 +9,7 @@ import java.util.List;
 @Builder
 public class ProjectDTO {
     private Long id;
+    private Long version; // Version lue, renvoyée telle quelle lors d'une modification
     private String name;
     private String description;
     private String startDate; // ISO date string
@@ -0,0 +1,21 @@
+package com.example.projectservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import java.util.List;
+
+/**
+ * Événement envoyé sur le flux SSE d'un projet. Seuls les champs utiles au type d'événement
+ * sont renseignés, les autres sont omis du JSON.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectEventDTO {
+    private String type;
+    private Long taskId;
+    private Long predecessorId;
+    private List<TaskDatesDTO> tasks; // Nouvelles dates des tâches recalculées
+}
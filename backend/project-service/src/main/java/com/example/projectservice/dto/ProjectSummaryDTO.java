@@ -0,0 +1,18 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectSummaryDTO {
+    private Long id;
+    private String name;
+    private String description;
+    private String startDate; // ISO date string
+    private String endDate; // ISO date string
+    private long taskCount;
+    private long doneTaskCount;
+    private int percentDone; // Part des tâches terminées (0-100)
+}
@@ -0,0 +1,19 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecalculationJobDTO {
+    private String id;
+    private Long projectId;
+    private String status; // QUEUED, RUNNING, SUCCEEDED, FAILED
+    private int requests; // Nombre de demandes regroupées dans ce recalcul
+    private Integer changedTasks; // Renseigné une fois le recalcul terminé
+    private String error;
+    private String submittedAt; // ISO instant
+    private String startedAt;
+    private String finishedAt;
+}
@@ -10,6 +10,7 @@ import java.util.List;
 @Builder
 public class TaskDTO {
     private Long id;
+    private Long version; // Version lue, renvoyée telle quelle lors d'une modification
     private String name;
     private int duration;
     private String startDate; // Date de début
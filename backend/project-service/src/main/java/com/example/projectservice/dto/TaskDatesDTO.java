@@ -0,0 +1,13 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskDatesDTO {
+    private Long id;
+    private String startDate; // ISO date string
+    private String dueDate;
+}
@@ -0,0 +1,22 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changements des tâches d'un projet depuis une révision donnée : tâches créées ou modifiées
+ * (complètes) et identifiants des tâches supprimées. revision est à renvoyer comme "since"
+ * lors de la synchronisation suivante.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskDeltaDTO {
+    private long revision;
+    @Builder.Default
+    private List<TaskDTO> tasks = new ArrayList<>();
+    @Builder.Default
+    private List<Long> deletedTaskIds = new ArrayList<>();
+}
@@ -0,0 +1,31 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * Tâche d'un import en masse. Les tâches du lot se référencent par clé client (key) ;
+ * une tâche existante du projet peut être mise à jour en renseignant son id.
+ * Une liste absente (null) laisse les prédécesseurs ou assignés d'une tâche existante inchangés.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportDTO {
+    private String key; // Clé client, unique dans le lot
+    private Long id; // Tâche existante à mettre à jour (optionnel)
+    private String name;
+    private int duration;
+    private String startDate;
+    private String dueDate;
+    private boolean done;
+    private String status;
+
+    @Builder.Default
+    private int progress = 0;
+
+    private List<String> predecessorKeys; // Prédécesseurs du lot, par clé
+    private List<Long> predecessorIds; // Prédécesseurs déjà existants, par ID
+    private List<Long> assigneeIds;
+}
@@ -0,0 +1,18 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportResultDTO {
+    private int created;
+    private int updated;
+    private int dependencies; // Lignes task_dependencies écrites
+
+    @Builder.Default
+    private Map<String, Long> taskIds = new LinkedHashMap<>(); // Clé client -> ID de la tâche
+}
@@ -0,0 +1,20 @@
+package com.example.projectservice.dto;
+
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSlackDTO {
+    private Long id;
+    private String name;
+    private int duration;
+    private String earliestStart; // ISO date string
+    private String earliestFinish;
+    private String latestStart;
+    private String latestFinish;
+    private int totalFloat; // Marge totale en jours
+    private int freeFloat; // Marge libre en jours
+    private boolean critical;
+}
@@ -0,0 +1,23 @@
+package com.example.projectservice.exception;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Modification refusée car l'entité a changé depuis la version lue par le client (HTTP 409).
+ */
+@Getter
+public class ConflictException extends RuntimeException {
+
+    private final String entity;
+    private final Long id;
+    private final Set<String> fields; // Champs en conflit, vide si inconnus
+
+    public ConflictException(String entity, Long id, Set<String> fields, String message) {
+        super(message);
+        this.entity = entity;
+        this.id = id;
+        this.fields = fields;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.projectservice.exception;
+
+import lombok.Getter;
+
+/**
+ * Import en masse refusé car un enregistrement du lot est invalide (HTTP 400).
+ */
+@Getter
+public class InvalidImportException extends RuntimeException {
+
+    private final Integer record; // Position de l'enregistrement dans le lot (à partir de 1), null si global
+
+    public InvalidImportException(Integer record, String message) {
+        super(record != null ? "Record " + record + ": " + message : message);
+        this.record = record;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.projectservice.exception;
+
+import lombok.Getter;
+
+/**
+ * Merge patch refusé : champ inconnu ou valeur du mauvais type (HTTP 400).
+ */
+@Getter
+public class InvalidPatchException extends RuntimeException {
+
+    private final String field; // Champ fautif, null si c'est le document entier qui est invalide
+
+    public InvalidPatchException(String field, String message) {
+        super(message);
+        this.field = field;
+    }
+}
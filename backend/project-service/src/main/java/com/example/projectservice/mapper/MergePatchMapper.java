@@ -0,0 +1,139 @@
+package com.example.projectservice.mapper;
+
+import com.example.projectservice.exception.InvalidPatchException;
+import com.example.projectservice.model.Task;
+import com.example.projectservice.service.TaskChangeHistory;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lecture d'un document JSON Merge Patch (RFC 7396) en changements typés, par champ.
+ * Un champ absent n'est pas modifié ; null efface la valeur (dates, description).
+ * "version" n'est pas un changement : c'est la version sur laquelle le patch est basé.
+ */
+@Component
+public class MergePatchMapper {
+
+    public static final String VERSION = "version";
+
+    public Long version(JsonNode patch) {
+        JsonNode version = patch.get(VERSION);
+        if (version == null || version.isNull()) {
+            return null;
+        }
+        if (!version.canConvertToExactIntegral()) {
+            throw invalid(VERSION);
+        }
+        return version.longValue();
+    }
+
+    public Map<String, Object> projectChanges(JsonNode patch) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        forEachField(patch, (field, value) -> {
+            switch (field) {
+                case "name" -> changes.put(field, requiredText(field, value));
+                case "description" -> changes.put(field, value.isNull() ? null : value.asText());
+                case "startDate", "endDate" -> changes.put(field, date(field, value));
+                default -> throw new InvalidPatchException(field, "Unsupported project field: " + field);
+            }
+        });
+        return changes;
+    }
+
+    public Map<String, Object> taskChanges(JsonNode patch) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        forEachField(patch, (field, value) -> {
+            switch (field) {
+                case TaskChangeHistory.NAME -> changes.put(field, requiredText(field, value));
+                case TaskChangeHistory.DURATION, TaskChangeHistory.PROGRESS -> changes.put(field, integer(field, value));
+                case TaskChangeHistory.START_DATE, TaskChangeHistory.DUE_DATE -> changes.put(field, date(field, value));
+                case TaskChangeHistory.DONE -> {
+                    if (!value.isBoolean()) {
+                        throw invalid(field);
+                    }
+                    changes.put(field, value.booleanValue());
+                }
+                case TaskChangeHistory.STATUS -> changes.put(field, status(field, value));
+                case TaskChangeHistory.ASSIGNEE_IDS, TaskChangeHistory.PREDECESSOR_IDS -> changes.put(field, ids(field, value));
+                default -> throw new InvalidPatchException(field, "Unsupported task field: " + field);
+            }
+        });
+        return changes;
+    }
+
+    private interface FieldConsumer {
+        void accept(String field, JsonNode value);
+    }
+
+    private static void forEachField(JsonNode patch, FieldConsumer consumer) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchException(null, "Merge patch must be a JSON object");
+        }
+        for (Map.Entry<String, JsonNode> field : patch.properties()) {
+            if (!field.getKey().equals(VERSION) && !field.getKey().equals("id")) {
+                consumer.accept(field.getKey(), field.getValue());
+            }
+        }
+    }
+
+    private static String requiredText(String field, JsonNode value) {
+        if (!value.isTextual()) {
+            throw invalid(field);
+        }
+        return value.asText();
+    }
+
+    private static Integer integer(String field, JsonNode value) {
+        if (!value.isInt()) {
+            throw invalid(field);
+        }
+        return value.intValue();
+    }
+
+    private static LocalDate date(String field, JsonNode value) {
+        if (value.isNull()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.asText());
+        } catch (DateTimeParseException e) {
+            throw invalid(field);
+        }
+    }
+
+    private static Task.TaskStatus status(String field, JsonNode value) {
+        try {
+            return Task.TaskStatus.valueOf(value.asText());
+        } catch (IllegalArgumentException e) {
+            throw invalid(field);
+        }
+    }
+
+    private static List<Long> ids(String field, JsonNode value) {
+        if (value.isNull()) {
+            return List.of();
+        }
+        if (!value.isArray()) {
+            throw invalid(field);
+        }
+        List<Long> ids = new ArrayList<>(value.size());
+        for (JsonNode id : value) {
+            if (!id.canConvertToLong()) {
+                throw invalid(field);
+            }
+            ids.add(id.longValue());
+        }
+        return ids;
+    }
+
+    private static InvalidPatchException invalid(String field) {
+        return new InvalidPatchException(field, "Invalid value for field: " + field);
+    }
+}
@@ -9,6 +9,9 @@ public interface ProjectMapper {
 
     ProjectDTO toDto(Project project);
 
+    // Champs du projet seuls, sans charger les tâches
+    ProjectDTO toDtoWithoutTasks(Project project);
+
     Project toEntity(ProjectDTO dto);
 
     List<ProjectDTO> toDtoList(List<Project> projects);
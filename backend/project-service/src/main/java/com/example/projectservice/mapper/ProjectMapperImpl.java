@@ -20,17 +20,11 @@ public class ProjectMapperImpl implements ProjectMapper {
 
     @Override
     public ProjectDTO toDto(Project project) {
-        if (project == null) {
+        ProjectDTO dto = toDtoWithoutTasks(project);
+        if (dto == null) {
             return null;
         }
         
-        ProjectDTO dto = new ProjectDTO();
-        dto.setId(project.getId());
-        dto.setName(project.getName());
-        dto.setDescription(project.getDescription());
-        dto.setStartDate(dateToString(project.getStartDate()));
-        dto.setEndDate(dateToString(project.getEndDate()));
-        
         if (project.getTasks() != null) {
             List<TaskDTO> taskDtos = new ArrayList<>();
             for (Task task : project.getTasks()) {
@@ -42,6 +36,22 @@ public class ProjectMapperImpl implements ProjectMapper {
         return dto;
     }
 
+    @Override
+    public ProjectDTO toDtoWithoutTasks(Project project) {
+        if (project == null) {
+            return null;
+        }
+        
+        ProjectDTO dto = new ProjectDTO();
+        dto.setId(project.getId());
+        dto.setVersion(project.getVersion());
+        dto.setName(project.getName());
+        dto.setDescription(project.getDescription());
+        dto.setStartDate(dateToString(project.getStartDate()));
+        dto.setEndDate(dateToString(project.getEndDate()));
+        return dto;
+    }
+
     @Override
     public Project toEntity(ProjectDTO dto) {
         if (dto == null) {
@@ -50,6 +60,7 @@ public class ProjectMapperImpl implements ProjectMapper {
         
         Project project = new Project();
         project.setId(dto.getId());
+        project.setVersion(dto.getVersion());
         project.setName(dto.getName());
         project.setDescription(dto.getDescription());
         project.setStartDate(stringToDate(dto.getStartDate()));
@@ -25,6 +25,7 @@ public interface TaskMapper {
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "predecessors", ignore = true) // Géré manuellement dans le service
     @Mapping(target = "successors", ignore = true)
+    @Mapping(target = "revision", ignore = true)
     @Mapping(source = "status", target = "status", qualifiedByName = "stringToStatus")
     @Mapping(source = "startDate", target = "startDate", qualifiedByName = "stringToDate")
     @Mapping(source = "dueDate", target = "dueDate", qualifiedByName = "stringToDate")
@@ -0,0 +1,51 @@
+package com.example.projectservice.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Compte les requêtes SQL émises par Hibernate et les entités chargées par le thread courant,
+ * entre {@link #start()} et {@link #stop()} (une requête HTTP, voir {@link RequestStatisticsFilter}).
+ * Hors de cette fenêtre (jobs de recalcul, événements), rien n'est compté.
+ * Les requêtes passant par JdbcTemplate (résumés, import) ne sont pas vues par Hibernate.
+ */
+public class HibernateRequestStatistics implements StatementInspector, Interceptor {
+
+    private static final ThreadLocal<long[]> COUNTS = new ThreadLocal<>();
+
+    private static final int QUERIES = 0;
+    private static final int ENTITIES_LOADED = 1;
+
+    public static void start() {
+        COUNTS.set(new long[2]);
+    }
+
+    /**
+     * Termine la fenêtre et retourne {requêtes, entités chargées}.
+     */
+    public static long[] stop() {
+        long[] counts = COUNTS.get();
+        COUNTS.remove();
+        return counts != null ? counts : new long[2];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        increment(QUERIES);
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        increment(ENTITIES_LOADED);
+        return false;
+    }
+
+    private static void increment(int counter) {
+        long[] counts = COUNTS.get();
+        if (counts != null) {
+            counts[counter]++;
+        }
+    }
+}
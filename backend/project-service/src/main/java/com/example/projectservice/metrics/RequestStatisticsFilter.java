@@ -0,0 +1,51 @@
+package com.example.projectservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Nombre de requêtes SQL et d'entités chargées par requête HTTP, par route
+ * (mêmes tags method/uri que http.server.requests).
+ */
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+
+    public RequestStatisticsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HibernateRequestStatistics.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long[] counts = HibernateRequestStatistics.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            summary("http.server.requests.queries", "SQL statements issued by Hibernate per request",
+                request.getMethod(), uri).record(counts[0]);
+            summary("http.server.requests.entities.loaded", "Entities loaded by Hibernate per request",
+                request.getMethod(), uri).record(counts[1]);
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String method, String uri) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .tag("method", method)
+            .tag("uri", uri)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+}
@@ -2,11 +2,18 @@ package com.example.projectservice.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
+@Table(indexes = {
+    @Index(name = "idx_project_name_id", columnList = "name, id"),
+    @Index(name = "idx_project_start_date_id", columnList = "startDate, id"),
+    @Index(name = "idx_project_end_date_id", columnList = "endDate, id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,6 +30,16 @@ public class Project {
     private LocalDate startDate;
     private LocalDate endDate;
 
+    // Version pour le verrouillage optimiste des champs du projet
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    // Révision du contenu (projet, tâches, dépendances, assignés), incrémentée à chaque écriture
+    // par ProjectChangeService ; jamais écrite par le mapping JPA
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long revision;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Task> tasks;
 }
@@ -2,12 +2,15 @@ package com.example.projectservice.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DynamicUpdate // UPDATE limité aux colonnes modifiées
+@Table(indexes = @Index(name = "idx_task_project_revision", columnList = "project_id, revision"))
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,6 +27,16 @@ public class Task {
     private LocalDate dueDate; // Date de fin (calculée ou manuelle)
     private boolean done;
 
+    // Version pour le verrouillage optimiste : une écriture basée sur une version périmée échoue
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    // Révision du projet lors de la dernière modification de la tâche (synchronisation incrémentale),
+    // positionnée par ProjectChangeService ; jamais écrite par le mapping JPA
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long revision;
+
     @Enumerated(EnumType.STRING)
     @Builder.Default
     private TaskStatus status = TaskStatus.TODO;
@@ -35,7 +48,11 @@ public class Task {
 
     // Affectation de ressources (IDs des utilisateurs assignés)
     @ElementCollection
-    @CollectionTable(name = "task_assignees", joinColumns = @JoinColumn(name = "task_id"))
+    @CollectionTable(
+        name = "task_assignees",
+        joinColumns = @JoinColumn(name = "task_id"),
+        indexes = @Index(name = "idx_task_assignees_task_id", columnList = "task_id")
+    )
     @Column(name = "user_id")
     @Builder.Default
     private List<Long> assigneeIds = new ArrayList<>();
@@ -49,7 +66,11 @@ public class Task {
     @JoinTable(
         name = "task_dependencies",
         joinColumns = @JoinColumn(name = "task_id"),
-        inverseJoinColumns = @JoinColumn(name = "predecessor_id")
+        inverseJoinColumns = @JoinColumn(name = "predecessor_id"),
+        indexes = {
+            @Index(name = "idx_task_dependencies_task_id", columnList = "task_id"),
+            @Index(name = "idx_task_dependencies_predecessor_id", columnList = "predecessor_id")
+        }
     )
     @Builder.Default
     private List<Task> predecessors = new ArrayList<>();
@@ -0,0 +1,37 @@
+package com.example.projectservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Trace d'une tâche supprimée, pour la synchronisation incrémentale des clients
+ * (GET /projects/{id}/tasks?since=...).
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_task_tombstone_project_revision", columnList = "projectId, revision"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskTombstone implements Persistable<Long> {
+
+    @Id
+    private Long taskId;
+
+    private Long projectId;
+
+    // Révision du projet à laquelle la tâche a été supprimée
+    private long revision;
+
+    @Override
+    public Long getId() {
+        return taskId;
+    }
+
+    // Toujours une insertion (l'ID d'une tâche n'est jamais réutilisé) : pas de SELECT avant persist
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -2,6 +2,21 @@ package com.example.projectservice.repository;
 
 import com.example.projectservice.model.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    @Query("select p.revision from Project p where p.id = :id")
+    Optional<Long> findRevisionById(@Param("id") Long id);
+
+    @Query("select p.version from Project p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Project p set p.revision = p.revision + 1 where p.id = :id")
+    int incrementRevision(@Param("id") Long id);
 }
@@ -0,0 +1,160 @@
+package com.example.projectservice.repository;
+
+import com.example.projectservice.dto.KeysetPageDTO;
+import com.example.projectservice.dto.ProjectSummaryDTO;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Liste paginée des projets sous forme de résumés (SQL direct, sans charger les tâches).
+ * La pagination se fait par clé (valeur du tri + id) : le coût d'une page ne dépend pas de sa position.
+ * Les valeurs nulles du champ de tri sont placées en fin de liste, quel que soit le sens.
+ */
+@Repository
+public class ProjectSummaryRepository {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+        "id", "id",
+        "name", "name",
+        "startDate", "start_date",
+        "endDate", "end_date"
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ProjectSummaryRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Filtres de la liste : nom contenant (insensible à la casse) et projets chevauchant [from, to].
+     */
+    public record Filter(String name, LocalDate from, LocalDate to) {
+    }
+
+    public KeysetPageDTO<ProjectSummaryDTO> findPage(Filter filter, String sort, boolean descending,
+                                                     String cursor, int limit) {
+        String column = SORT_COLUMNS.get(sort != null ? sort : "id");
+        if (column == null) {
+            throw new RuntimeException("Unsupported sort field: " + sort);
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        String direction = descending ? "desc" : "asc";
+        String comparator = descending ? "<" : ">";
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> conditions = new ArrayList<>();
+        if (filter.name() != null && !filter.name().isBlank()) {
+            conditions.add("lower(p.name) like :name");
+            params.addValue("name", "%" + filter.name().toLowerCase() + "%");
+        }
+        if (filter.from() != null) {
+            conditions.add("(p.end_date is null or p.end_date >= :from)");
+            params.addValue("from", Date.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            conditions.add("(p.start_date is null or p.start_date <= :to)");
+            params.addValue("to", Date.valueOf(filter.to()));
+        }
+
+        if (cursor != null && !cursor.isEmpty()) {
+            Cursor position = Cursor.decode(cursor);
+            params.addValue("afterId", position.id());
+            if (column.equals("id")) {
+                conditions.add("p.id " + comparator + " :afterId");
+            } else if (position.value() == null) {
+                conditions.add("(p." + column + " is null and p.id " + comparator + " :afterId)");
+            } else {
+                conditions.add("(p." + column + " " + comparator + " :afterValue"
+                    + " or (p." + column + " = :afterValue and p.id " + comparator + " :afterId)"
+                    + " or p." + column + " is null)");
+                params.addValue("afterValue", column.equals("name")
+                    ? position.value()
+                    : Date.valueOf(LocalDate.parse(position.value())));
+            }
+        }
+
+        String orderBy = column.equals("id")
+            ? "p.id " + direction
+            : "p." + column + " " + direction + " nulls last, p.id " + direction;
+        params.addValue("limit", pageSize + 1);
+
+        // Les compteurs ne sont calculés que pour les projets de la page
+        String sql = "select p.id, p.name, p.description, p.start_date, p.end_date, s.task_count, s.done_count "
+            + "from (select p.id, p.name, p.description, p.start_date, p.end_date from project p"
+            + (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions))
+            + " order by " + orderBy + " limit :limit) p "
+            + "left join lateral (select count(*) as task_count, "
+            + "count(*) filter (where t.done or t.status = 'COMPLETED') as done_count "
+            + "from task t where t.project_id = p.id) s on true "
+            + "order by " + orderBy;
+
+        List<ProjectSummaryDTO> items = jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            long taskCount = rs.getLong("task_count");
+            long doneCount = rs.getLong("done_count");
+            return ProjectSummaryDTO.builder()
+                .id(rs.getLong("id"))
+                .name(rs.getString("name"))
+                .description(rs.getString("description"))
+                .startDate(format(rs.getObject("start_date", LocalDate.class)))
+                .endDate(format(rs.getObject("end_date", LocalDate.class)))
+                .taskCount(taskCount)
+                .doneTaskCount(doneCount)
+                .percentDone(taskCount > 0 ? (int) (doneCount * 100 / taskCount) : 0)
+                .build();
+        });
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = new ArrayList<>(items.subList(0, pageSize));
+            ProjectSummaryDTO last = items.get(pageSize - 1);
+            String value = switch (column) {
+                case "name" -> last.getName();
+                case "start_date" -> last.getStartDate();
+                case "end_date" -> last.getEndDate();
+                default -> null;
+            };
+            nextCursor = new Cursor(last.getId(), value).encode();
+        }
+        return KeysetPageDTO.<ProjectSummaryDTO>builder().items(items).nextCursor(nextCursor).build();
+    }
+
+    private static String format(LocalDate date) {
+        return date != null ? date.format(DateTimeFormatter.ISO_DATE) : null;
+    }
+
+    /**
+     * Position opaque dans la liste : id du dernier projet et valeur du champ de tri.
+     */
+    private record Cursor(Long id, String value) {
+
+        String encode() {
+            String raw = id + ":" + (value != null ? "=" + value : "");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                Long id = Long.valueOf(raw.substring(0, separator));
+                String value = raw.length() > separator + 1 ? raw.substring(separator + 2) : null;
+                return new Cursor(id, value);
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
+    }
+}
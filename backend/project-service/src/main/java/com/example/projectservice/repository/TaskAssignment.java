@@ -0,0 +1,7 @@
+package com.example.projectservice.repository;
+
+/**
+ * Ligne de la table task_assignees.
+ */
+public record TaskAssignment(Long taskId, Long userId) {
+}
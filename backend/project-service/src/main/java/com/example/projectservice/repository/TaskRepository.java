@@ -1,7 +1,70 @@
 package com.example.projectservice.repository;
 
 import com.example.projectservice.model.Task;
+import com.example.projectservice.scheduling.TaskEdge;
+import com.example.projectservice.scheduling.TaskScheduleRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    @Query("select t.id from Task t where t.project.id = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select new com.example.projectservice.repository.TaskRow(" +
+           "t.id, t.version, t.name, t.duration, t.startDate, t.dueDate, t.done, t.status, t.progress) " +
+           "from Task t where t.project.id = :projectId and t.revision > :since order by t.id")
+    List<TaskRow> findRowsChangedSince(@Param("projectId") Long projectId, @Param("since") long since);
+
+    @Query("select new com.example.projectservice.repository.TaskAssignment(t.id, a) " +
+           "from Task t join t.assigneeIds a where t.project.id = :projectId and t.revision > :since")
+    List<TaskAssignment> findAssignmentsChangedSince(@Param("projectId") Long projectId, @Param("since") long since);
+
+    @Query("select new com.example.projectservice.scheduling.TaskEdge(t.id, p.id) " +
+           "from Task t join t.predecessors p where t.project.id = :projectId and t.revision > :since")
+    List<TaskEdge> findEdgesChangedSince(@Param("projectId") Long projectId, @Param("since") long since);
+
+    @Query("select s.id from Task t join t.successors s where t.id = :taskId")
+    List<Long> findSuccessorIds(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query("update Task t set t.revision = :revision where t.id in :ids")
+    int stampRevision(@Param("ids") Collection<Long> ids, @Param("revision") long revision);
+
+    @Query("select new com.example.projectservice.scheduling.TaskScheduleRow(t.id, t.name, t.duration, t.startDate, t.dueDate) " +
+           "from Task t where t.project.id = :projectId")
+    List<TaskScheduleRow> findScheduleRowsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select new com.example.projectservice.scheduling.TaskEdge(t.id, p.id) " +
+           "from Task t join t.predecessors p where t.project.id = :projectId")
+    List<TaskEdge> findEdgesByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select new com.example.projectservice.scheduling.TaskScheduleRow(t.id, t.name, t.duration, t.startDate, t.dueDate) " +
+           "from Task t where t.project.id = :projectId and t.id in :ids")
+    List<TaskScheduleRow> findScheduleRowsByIds(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Arcs entrant dans les tâches données : tous leurs prédécesseurs directs.
+     */
+    @Query("select new com.example.projectservice.scheduling.TaskEdge(t.id, p.id) " +
+           "from Task t join t.predecessors p where t.id in :ids")
+    List<TaskEdge> findEdgesByTaskIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Tâches atteintes depuis les tâches données en au plus :depth arcs vers l'aval, avec leur plus
+     * petite distance : [id, depth]. La profondeur bornée arrête aussi la récursion sur un cycle.
+     */
+    @Query(value = "with recursive downstream(id, depth) as (" +
+           "select t.id, 0 from task t where t.project_id = :projectId and t.id in (:ids) " +
+           "union select d.task_id, s.depth + 1 from task_dependencies d join downstream s on d.predecessor_id = s.id " +
+           "where s.depth < :depth) " +
+           "select id, min(depth) from downstream group by id",
+           nativeQuery = true)
+    List<Object[]> findDownstreamDepths(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids,
+                                        @Param("depth") int depth);
 }
@@ -0,0 +1,12 @@
+package com.example.projectservice.repository;
+
+import com.example.projectservice.model.Task;
+
+import java.time.LocalDate;
+
+/**
+ * Colonnes simples d'une tâche, lues sans hydrater l'entité ni ses collections.
+ */
+public record TaskRow(Long id, Long version, String name, int duration, LocalDate startDate, LocalDate dueDate,
+                      boolean done, Task.TaskStatus status, int progress) {
+}
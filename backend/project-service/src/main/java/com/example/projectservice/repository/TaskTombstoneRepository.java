@@ -0,0 +1,19 @@
+package com.example.projectservice.repository;
+
+import com.example.projectservice.model.TaskTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    @Query("select t.taskId from TaskTombstone t where t.projectId = :projectId and t.revision > :since")
+    List<Long> findTaskIdsDeletedSince(@Param("projectId") Long projectId, @Param("since") long since);
+
+    @Modifying
+    @Query("delete from TaskTombstone t where t.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
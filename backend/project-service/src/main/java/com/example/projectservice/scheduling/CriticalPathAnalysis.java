@@ -0,0 +1,107 @@
+package com.example.projectservice.scheduling;
+
+/**
+ * Méthode du chemin critique (CPM) sur le graphe de dépendances.
+ * Les valeurs sont des décalages en jours depuis le début du projet ;
+ * une tâche de durée d occupe l'intervalle [début, début + d).
+ */
+public final class CriticalPathAnalysis {
+
+    private final TaskGraph graph;
+    private final int[] earlyStart;
+    private final int[] earlyFinish;
+    private final int[] lateStart;
+    private final int[] lateFinish;
+    private final int[] freeFloat;
+    private final int projectDuration;
+
+    private CriticalPathAnalysis(TaskGraph graph, int[] earlyStart, int[] earlyFinish,
+                                 int[] lateStart, int[] lateFinish, int[] freeFloat, int projectDuration) {
+        this.graph = graph;
+        this.earlyStart = earlyStart;
+        this.earlyFinish = earlyFinish;
+        this.lateStart = lateStart;
+        this.lateFinish = lateFinish;
+        this.freeFloat = freeFloat;
+        this.projectDuration = projectDuration;
+    }
+
+    /**
+     * Passes avant et arrière en ordre topologique, O(V+E).
+     * Les durées négatives sont traitées comme nulles.
+     */
+    public static CriticalPathAnalysis run(TaskGraph graph, int[] duration) {
+        int n = graph.size();
+        int[] order = graph.topologicalOrderView();
+        int[] earlyStart = new int[n];
+        int[] earlyFinish = new int[n];
+        int[] lateStart = new int[n];
+        int[] lateFinish = new int[n];
+        int[] freeFloat = new int[n];
+
+        // Passe avant : début au plus tôt = max des fins au plus tôt des prédécesseurs
+        int projectDuration = 0;
+        for (int node : order) {
+            int es = 0;
+            for (int e = graph.predecessorStart(node); e < graph.predecessorEnd(node); e++) {
+                es = Math.max(es, earlyFinish[graph.predecessorAt(e)]);
+            }
+            earlyStart[node] = es;
+            earlyFinish[node] = es + Math.max(0, duration[node]);
+            projectDuration = Math.max(projectDuration, earlyFinish[node]);
+        }
+
+        // Passe arrière : fin au plus tard = min des débuts au plus tard des successeurs
+        for (int r = n - 1; r >= 0; r--) {
+            int node = order[r];
+            int lf = projectDuration;
+            int nextEarlyStart = projectDuration;
+            for (int e = graph.successorStart(node); e < graph.successorEnd(node); e++) {
+                int successor = graph.successorAt(e);
+                lf = Math.min(lf, lateStart[successor]);
+                nextEarlyStart = Math.min(nextEarlyStart, earlyStart[successor]);
+            }
+            lateFinish[node] = lf;
+            lateStart[node] = lf - (earlyFinish[node] - earlyStart[node]);
+            freeFloat[node] = nextEarlyStart - earlyFinish[node];
+        }
+
+        return new CriticalPathAnalysis(graph, earlyStart, earlyFinish, lateStart, lateFinish, freeFloat, projectDuration);
+    }
+
+    public TaskGraph graph() {
+        return graph;
+    }
+
+    public int projectDuration() {
+        return projectDuration;
+    }
+
+    public int earlyStart(int node) {
+        return earlyStart[node];
+    }
+
+    public int earlyFinish(int node) {
+        return earlyFinish[node];
+    }
+
+    public int lateStart(int node) {
+        return lateStart[node];
+    }
+
+    public int lateFinish(int node) {
+        return lateFinish[node];
+    }
+
+    public int totalFloat(int node) {
+        return lateStart[node] - earlyStart[node];
+    }
+
+    public int freeFloat(int node) {
+        return freeFloat[node];
+    }
+
+    public boolean isCritical(int node) {
+        return totalFloat(node) == 0;
+    }
+}
@@ -0,0 +1,428 @@
+package com.example.projectservice.scheduling;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Index de dépendances d'un projet, gardé en mémoire pour la détection de cycles.
+ * Chaque tâche porte un label topologique (un prédécesseur a toujours un label plus petit que
+ * ses successeurs). Un arc qui respecte déjà l'ordre ne peut pas créer de cycle : la réponse est
+ * immédiate. Sinon la recherche est bornée à la zone de labels concernée, et l'ordre est corrigé
+ * à l'ajout de l'arc (algorithme de Pearce-Kelly).
+ * Les emplacements des tâches supprimées sont récupérés par compactage dès qu'ils dépassent
+ * la moitié de l'index.
+ * Les méthodes publiques prennent un verrou : l'index est partagé entre les requêtes.
+ * ReentrantLock plutôt que synchronized, pour ne pas épingler un thread virtuel à son porteur.
+ */
+public final class DependencyIndex {
+
+    private static final int[] NO_EDGES = new int[0];
+    // Label des emplacements libérés par removeTask
+    private static final int REMOVED = -1;
+    // Pas de compactage en dessous de ce nombre d'emplacements libérés
+    private static final int MIN_REMOVED_BEFORE_COMPACT = 64;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Integer> indexById;
+    private long[] ids;
+    private int[] ord;
+    private int[][] succs;
+    private int[] succCount;
+    private int[][] preds;
+    private int[] predCount;
+    private int size;
+    private int removed;
+    private int nextLabel;
+
+    // Marquage des noeuds visités sans réallouer à chaque parcours
+    private int[] visitedStamp;
+    private int stamp;
+    private int[] stack;
+    private int[] visited;
+
+    private DependencyIndex(int capacity) {
+        this.indexById = new HashMap<>(capacity * 2);
+        this.ids = new long[capacity];
+        this.ord = new int[capacity];
+        this.succs = new int[capacity][];
+        this.succCount = new int[capacity];
+        this.preds = new int[capacity][];
+        this.predCount = new int[capacity];
+        this.visitedStamp = new int[capacity];
+        this.stack = new int[capacity];
+        this.visited = new int[capacity];
+    }
+
+    /**
+     * Construit l'index à partir des IDs de tâches et des lignes de task_dependencies.
+     * Lève IllegalStateException si les dépendances contiennent un cycle.
+     */
+    public static DependencyIndex build(long[] ids, List<TaskEdge> edges) {
+        return build(TaskGraph.build(ids, edges));
+    }
+
+    /**
+     * Construit l'index à partir d'un graphe déjà chargé, qui doit être acyclique.
+     */
+    public static DependencyIndex build(TaskGraph graph) {
+        int[] order = graph.topologicalOrderView();
+
+        DependencyIndex index = new DependencyIndex(Math.max(16, graph.size()));
+        for (int node : order) {
+            index.addNode(graph.id(node));
+        }
+        for (int node = 0; node < graph.size(); node++) {
+            int task = index.indexById.get(graph.id(node));
+            for (int e = graph.predecessorStart(node); e < graph.predecessorEnd(node); e++) {
+                int predecessor = index.indexById.get(graph.id(graph.predecessorAt(e)));
+                index.link(predecessor, task);
+            }
+        }
+        return index;
+    }
+
+    public boolean containsTask(Long taskId) {
+        lock.lock();
+        try {
+            return indexById.containsKey(taskId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Indique si "taskId dépend de predecessorId" créerait un cycle,
+     * c'est-à-dire si predecessorId est déjà atteignable depuis taskId.
+     */
+    public boolean wouldCreateCycle(Long taskId, Long predecessorId) {
+        lock.lock();
+        try {
+            Integer task = indexById.get(taskId);
+            Integer predecessor = indexById.get(predecessorId);
+            if (task == null || predecessor == null) {
+                return false;
+            }
+            if (task.equals(predecessor)) {
+                return true;
+            }
+            if (ord[predecessor] < ord[task]) {
+                return false;
+            }
+            return forwardSearch(task, ord[predecessor], predecessor) < 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void addTask(Long taskId) {
+        lock.lock();
+        try {
+            if (!indexById.containsKey(taskId)) {
+                addNode(taskId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void removeTask(Long taskId) {
+        lock.lock();
+        try {
+            Integer node = indexById.remove(taskId);
+            if (node == null) {
+                return;
+            }
+            for (int i = 0; i < succCount[node]; i++) {
+                removeFrom(preds, predCount, succs[node][i], node);
+            }
+            for (int i = 0; i < predCount[node]; i++) {
+                removeFrom(succs, succCount, preds[node][i], node);
+            }
+            succs[node] = NO_EDGES;
+            preds[node] = NO_EDGES;
+            succCount[node] = 0;
+            predCount[node] = 0;
+            ord[node] = REMOVED;
+            if (++removed >= MIN_REMOVED_BEFORE_COMPACT && removed * 2 > size) {
+                compact();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ajoute l'arc "taskId dépend de predecessorId" et corrige les labels si nécessaire.
+     * Lève IllegalStateException si l'arc crée un cycle (l'index reste alors inchangé).
+     */
+    public void addDependency(Long taskId, Long predecessorId) {
+        lock.lock();
+        try {
+            Integer task = indexById.get(taskId);
+            Integer predecessor = indexById.get(predecessorId);
+            if (task == null || predecessor == null || contains(succs[predecessor], succCount[predecessor], task)) {
+                return;
+            }
+            if (task.equals(predecessor)) {
+                throw new IllegalStateException("Dependency cycle on task " + taskId);
+            }
+            if (ord[predecessor] > ord[task]) {
+                reorder(predecessor, task);
+            }
+            link(predecessor, task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void removeDependency(Long taskId, Long predecessorId) {
+        lock.lock();
+        try {
+            Integer task = indexById.get(taskId);
+            Integer predecessor = indexById.get(predecessorId);
+            if (task == null || predecessor == null) {
+                return;
+            }
+            removeFrom(succs, succCount, predecessor, task);
+            removeFrom(preds, predCount, task, predecessor);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remplace tous les prédécesseurs d'une tâche.
+     */
+    public void replacePredecessors(Long taskId, List<Long> predecessorIds) {
+        lock.lock();
+        try {
+            Integer task = indexById.get(taskId);
+            if (task == null) {
+                return;
+            }
+            for (int i = predCount[task] - 1; i >= 0; i--) {
+                removeDependency(taskId, ids[preds[task][i]]);
+            }
+            for (Long predecessorId : predecessorIds) {
+                addDependency(taskId, predecessorId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ----- Pearce-Kelly -----
+
+    /**
+     * Corrige les labels avant d'ajouter l'arc x -> y lorsque ord[x] > ord[y].
+     */
+    private void reorder(int x, int y) {
+        int upper = ord[x];
+        int lower = ord[y];
+
+        int forwardCount = forwardSearch(y, upper, x);
+        if (forwardCount < 0) {
+            throw new IllegalStateException("Dependency cycle between tasks " + ids[y] + " and " + ids[x]);
+        }
+        int[] forward = Arrays.copyOf(stack, forwardCount);
+        int[] backward = Arrays.copyOf(stack, backwardSearch(x, lower));
+
+        sortByOrd(forward);
+        sortByOrd(backward);
+
+        // Les noeuds en amont de x prennent les plus petits labels, puis ceux en aval de y
+        int[] labels = new int[forward.length + backward.length];
+        int k = 0;
+        for (int node : backward) {
+            labels[k++] = ord[node];
+        }
+        for (int node : forward) {
+            labels[k++] = ord[node];
+        }
+        Arrays.sort(labels);
+        k = 0;
+        for (int node : backward) {
+            ord[node] = labels[k++];
+        }
+        for (int node : forward) {
+            ord[node] = labels[k++];
+        }
+    }
+
+    /**
+     * Parcours des successeurs depuis start, limité aux labels <= upper.
+     * Retourne le nombre de noeuds visités (rangés au début de stack), ou -1 si target est atteint.
+     */
+    private int forwardSearch(int start, int upper, int target) {
+        int mark = nextStamp();
+        int visitedCount = 0;
+        int top = 0;
+        stack[top++] = start;
+        visitedStamp[start] = mark;
+        while (top > 0) {
+            int node = stack[--top];
+            visited[visitedCount++] = node;
+            for (int i = 0; i < succCount[node]; i++) {
+                int successor = succs[node][i];
+                if (successor == target) {
+                    return -1;
+                }
+                if (visitedStamp[successor] != mark && ord[successor] <= upper) {
+                    visitedStamp[successor] = mark;
+                    stack[top++] = successor;
+                }
+            }
+        }
+        System.arraycopy(visited, 0, stack, 0, visitedCount);
+        return visitedCount;
+    }
+
+    /**
+     * Parcours des prédécesseurs depuis start, limité aux labels >= lower.
+     * Retourne le nombre de noeuds visités (rangés au début de stack).
+     */
+    private int backwardSearch(int start, int lower) {
+        int mark = nextStamp();
+        int visitedCount = 0;
+        int top = 0;
+        stack[top++] = start;
+        visitedStamp[start] = mark;
+        while (top > 0) {
+            int node = stack[--top];
+            visited[visitedCount++] = node;
+            for (int i = 0; i < predCount[node]; i++) {
+                int predecessor = preds[node][i];
+                if (visitedStamp[predecessor] != mark && ord[predecessor] >= lower) {
+                    visitedStamp[predecessor] = mark;
+                    stack[top++] = predecessor;
+                }
+            }
+        }
+        System.arraycopy(visited, 0, stack, 0, visitedCount);
+        return visitedCount;
+    }
+
+    private void sortByOrd(int[] nodes) {
+        long[] keyed = new long[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            keyed[i] = ((long) ord[nodes[i]] << 32) | nodes[i];
+        }
+        Arrays.sort(keyed);
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = (int) keyed[i];
+        }
+    }
+
+    private int nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(visitedStamp, 0);
+            stamp = 1;
+        }
+        return stamp;
+    }
+
+    // ----- Stockage -----
+
+    /**
+     * Nombre d'emplacements occupés, tâches supprimées non encore compactées comprises.
+     */
+    int slotCount() {
+        return size;
+    }
+
+    private int addNode(long id) {
+        if (size == ids.length) {
+            resize(size * 2);
+        }
+        int node = size++;
+        ids[node] = id;
+        ord[node] = nextLabel++;
+        succs[node] = NO_EDGES;
+        preds[node] = NO_EDGES;
+        indexById.put(id, node);
+        return node;
+    }
+
+    /**
+     * Retire les emplacements libérés en renumérotant les noeuds restants. Les labels sont
+     * conservés tels quels : seul leur ordre relatif compte.
+     */
+    private void compact() {
+        int[] remap = new int[size];
+        int live = 0;
+        for (int node = 0; node < size; node++) {
+            remap[node] = ord[node] == REMOVED ? REMOVED : live++;
+        }
+        // remap[node] <= node : le déplacement en place n'écrase aucun noeud restant à traiter
+        for (int node = 0; node < size; node++) {
+            int target = remap[node];
+            if (target == REMOVED) {
+                continue;
+            }
+            for (int i = 0; i < succCount[node]; i++) {
+                succs[node][i] = remap[succs[node][i]];
+            }
+            for (int i = 0; i < predCount[node]; i++) {
+                preds[node][i] = remap[preds[node][i]];
+            }
+            ids[target] = ids[node];
+            ord[target] = ord[node];
+            succs[target] = succs[node];
+            succCount[target] = succCount[node];
+            preds[target] = preds[node];
+            predCount[target] = predCount[node];
+            indexById.put(ids[target], target);
+        }
+        size = live;
+        removed = 0;
+        resize(Math.max(16, live * 2));
+        Arrays.fill(visitedStamp, 0);
+        stamp = 0;
+    }
+
+    private void resize(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        ord = Arrays.copyOf(ord, capacity);
+        succs = Arrays.copyOf(succs, capacity);
+        succCount = Arrays.copyOf(succCount, capacity);
+        preds = Arrays.copyOf(preds, capacity);
+        predCount = Arrays.copyOf(predCount, capacity);
+        visitedStamp = Arrays.copyOf(visitedStamp, capacity);
+        stack = Arrays.copyOf(stack, capacity);
+        visited = Arrays.copyOf(visited, capacity);
+    }
+
+    private void link(int predecessor, int task) {
+        append(succs, succCount, predecessor, task);
+        append(preds, predCount, task, predecessor);
+    }
+
+    private static void append(int[][] lists, int[] counts, int node, int value) {
+        if (counts[node] == lists[node].length) {
+            lists[node] = Arrays.copyOf(lists[node], Math.max(4, counts[node] * 2));
+        }
+        lists[node][counts[node]++] = value;
+    }
+
+    private static void removeFrom(int[][] lists, int[] counts, int node, int value) {
+        int[] list = lists[node];
+        for (int i = 0; i < counts[node]; i++) {
+            if (list[i] == value) {
+                list[i] = list[--counts[node]];
+                return;
+            }
+        }
+    }
+
+    private static boolean contains(int[] list, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (list[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
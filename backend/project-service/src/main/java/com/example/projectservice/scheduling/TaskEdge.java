@@ -0,0 +1,7 @@
+package com.example.projectservice.scheduling;
+
+/**
+ * Ligne de la table task_dependencies : taskId dépend de predecessorId.
+ */
+public record TaskEdge(Long taskId, Long predecessorId) {
+}
@@ -0,0 +1,219 @@
+package com.example.projectservice.scheduling;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Graphe de dépendances compact d'un projet.
+ * Les tâches sont indexées de 0 à n-1 et les arcs stockés en tableaux
+ * d'entiers (format CSR), dans les deux sens : prédécesseurs et successeurs.
+ * L'ordre topologique est calculé une fois à la construction.
+ */
+public final class TaskGraph {
+
+    private final long[] ids;
+    private final Map<Long, Integer> indexById;
+
+    private final int[] predOffsets;
+    private final int[] preds;
+    private final int[] succOffsets;
+    private final int[] succs;
+
+    // Ordre topologique (null si le graphe contient un cycle) et rang de chaque noeud dans cet ordre
+    private final int[] order;
+    private final int[] rank;
+
+    private TaskGraph(long[] ids, Map<Long, Integer> indexById,
+                      int[] predOffsets, int[] preds, int[] succOffsets, int[] succs) {
+        this.ids = ids;
+        this.indexById = indexById;
+        this.predOffsets = predOffsets;
+        this.preds = preds;
+        this.succOffsets = succOffsets;
+        this.succs = succs;
+        this.order = topologicalOrder();
+        this.rank = order != null ? ranks(order) : null;
+    }
+
+    /**
+     * Construit le graphe à partir des IDs de tâches et des lignes de task_dependencies.
+     * Les arcs dont une extrémité n'appartient pas à la liste sont ignorés.
+     */
+    public static TaskGraph build(long[] ids, List<TaskEdge> edges) {
+        int n = ids.length;
+        Map<Long, Integer> indexById = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            indexById.put(ids[i], i);
+        }
+
+        int m = edges.size();
+        int[] from = new int[m]; // prédécesseur
+        int[] to = new int[m];   // tâche dépendante
+        int count = 0;
+        for (TaskEdge edge : edges) {
+            Integer task = indexById.get(edge.taskId());
+            Integer predecessor = indexById.get(edge.predecessorId());
+            if (task == null || predecessor == null) {
+                continue;
+            }
+            from[count] = predecessor;
+            to[count] = task;
+            count++;
+        }
+
+        int[] predOffsets = new int[n + 1];
+        int[] succOffsets = new int[n + 1];
+        for (int e = 0; e < count; e++) {
+            predOffsets[to[e] + 1]++;
+            succOffsets[from[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            predOffsets[i + 1] += predOffsets[i];
+            succOffsets[i + 1] += succOffsets[i];
+        }
+
+        int[] preds = new int[count];
+        int[] succs = new int[count];
+        int[] predFill = Arrays.copyOf(predOffsets, n);
+        int[] succFill = Arrays.copyOf(succOffsets, n);
+        for (int e = 0; e < count; e++) {
+            preds[predFill[to[e]]++] = from[e];
+            succs[succFill[from[e]]++] = to[e];
+        }
+
+        return new TaskGraph(ids, indexById, predOffsets, preds, succOffsets, succs);
+    }
+
+    /**
+     * Tri topologique de Kahn, O(V+E). Retourne null si un cycle empêche de trier tous les noeuds.
+     */
+    private int[] topologicalOrder() {
+        int n = ids.length;
+        int[] inDegree = new int[n];
+        for (int i = 0; i < n; i++) {
+            inDegree[i] = predOffsets[i + 1] - predOffsets[i];
+        }
+
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int node = queue[head++];
+            for (int e = succOffsets[node]; e < succOffsets[node + 1]; e++) {
+                int successor = succs[e];
+                if (--inDegree[successor] == 0) {
+                    queue[tail++] = successor;
+                }
+            }
+        }
+        return tail == n ? queue : null;
+    }
+
+    private static int[] ranks(int[] order) {
+        int[] rank = new int[order.length];
+        for (int r = 0; r < order.length; r++) {
+            rank[order[r]] = r;
+        }
+        return rank;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long id(int node) {
+        return ids[node];
+    }
+
+    /**
+     * Index interne d'une tâche, ou -1 si elle n'appartient pas au graphe.
+     */
+    public int indexOf(Long taskId) {
+        Integer index = indexById.get(taskId);
+        return index != null ? index : -1;
+    }
+
+    public boolean isAcyclic() {
+        return order != null;
+    }
+
+    /**
+     * Noeuds dans l'ordre topologique (prédécesseurs avant successeurs).
+     */
+    public int[] topologicalOrderView() {
+        if (order == null) {
+            throw new IllegalStateException("Task dependencies contain a cycle");
+        }
+        return order;
+    }
+
+    /**
+     * Position d'un noeud dans l'ordre topologique.
+     */
+    public int rank(int node) {
+        if (rank == null) {
+            throw new IllegalStateException("Task dependencies contain a cycle");
+        }
+        return rank[node];
+    }
+
+    /**
+     * Indique si target est atteignable depuis source en suivant les successeurs (parcours en
+     * profondeur). Utilisable même si le graphe contient un cycle.
+     */
+    public boolean reaches(int source, int target) {
+        if (source == target) {
+            return true;
+        }
+        boolean[] seen = new boolean[ids.length];
+        int[] stack = new int[ids.length];
+        int top = 0;
+        stack[top++] = source;
+        seen[source] = true;
+        while (top > 0) {
+            int node = stack[--top];
+            for (int e = succOffsets[node]; e < succOffsets[node + 1]; e++) {
+                int successor = succs[e];
+                if (successor == target) {
+                    return true;
+                }
+                if (!seen[successor]) {
+                    seen[successor] = true;
+                    stack[top++] = successor;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int predecessorStart(int node) {
+        return predOffsets[node];
+    }
+
+    public int predecessorEnd(int node) {
+        return predOffsets[node + 1];
+    }
+
+    public int predecessorAt(int edge) {
+        return preds[edge];
+    }
+
+    public int successorStart(int node) {
+        return succOffsets[node];
+    }
+
+    public int successorEnd(int node) {
+        return succOffsets[node + 1];
+    }
+
+    public int successorAt(int edge) {
+        return succs[edge];
+    }
+}
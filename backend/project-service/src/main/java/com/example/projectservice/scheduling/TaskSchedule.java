@@ -0,0 +1,157 @@
+package com.example.projectservice.scheduling;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Dates des tâches d'un projet, stockées en jours epoch sur des tableaux primitifs
+ * alignés sur les index du {@link TaskGraph}.
+ */
+public final class TaskSchedule {
+
+    // Valeur sentinelle pour une date absente
+    static final long NONE = Long.MIN_VALUE;
+
+    private final TaskGraph graph;
+    private final int[] duration;
+    private final long[] start;
+    private final long[] due;
+    private final long projectStart;
+    // Tâches recalculées par le dernier computeAll/propagateFrom
+    private int visited;
+
+    private TaskSchedule(TaskGraph graph, int[] duration, long[] start, long[] due, long projectStart) {
+        this.graph = graph;
+        this.duration = duration;
+        this.start = start;
+        this.due = due;
+        this.projectStart = projectStart;
+    }
+
+    public static TaskSchedule of(TaskGraph graph, List<TaskScheduleRow> rows, LocalDate projectStart) {
+        int n = graph.size();
+        int[] duration = new int[n];
+        long[] start = new long[n];
+        long[] due = new long[n];
+        for (TaskScheduleRow row : rows) {
+            int node = graph.indexOf(row.id());
+            if (node < 0) {
+                continue;
+            }
+            duration[node] = row.duration();
+            start[node] = toEpochDay(row.startDate());
+            due[node] = toEpochDay(row.dueDate());
+        }
+        return new TaskSchedule(graph, duration, start, due, toEpochDay(projectStart));
+    }
+
+    /**
+     * Passe avant unique en ordre topologique, O(V+E).
+     * Retourne les noeuds dont les dates ont changé.
+     */
+    public BitSet computeAll() {
+        BitSet changed = new BitSet(graph.size());
+        visited = graph.size();
+        for (int node : graph.topologicalOrderView()) {
+            if (recompute(node)) {
+                changed.set(node);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Propagation incrémentale depuis une tâche modifiée : la tâche est recalculée puis les
+     * changements sont poussés vers les successeurs en ordre topologique. Une branche s'arrête
+     * dès qu'une tâche garde les mêmes dates, le coût est donc proportionnel aux tâches affectées.
+     * Les successeurs de la tâche source sont toujours visités, ses dates ayant pu être saisies.
+     * Retourne les noeuds dont les dates ont changé.
+     */
+    public BitSet propagateFrom(int source) {
+        int[] order = graph.topologicalOrderView();
+        BitSet changed = new BitSet(graph.size());
+        // Noeuds à recalculer, indexés par rang topologique
+        BitSet pending = new BitSet(graph.size());
+        pending.set(graph.rank(source));
+        visited = 0;
+
+        for (int r = pending.nextSetBit(0); r >= 0; r = pending.nextSetBit(r + 1)) {
+            int node = order[r];
+            visited++;
+            boolean nodeChanged = recompute(node);
+            if (nodeChanged) {
+                changed.set(node);
+            }
+            if (nodeChanged || node == source) {
+                for (int e = graph.successorStart(node); e < graph.successorEnd(node); e++) {
+                    pending.set(graph.rank(graph.successorAt(e)));
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Recalcule les dates d'une tâche à partir de ses prédécesseurs
+     * (mêmes règles que le calcul historique de ProjectService).
+     * Retourne true si la date de début ou de fin a changé.
+     */
+    boolean recompute(int node) {
+        long newStart = start[node];
+        int from = graph.predecessorStart(node);
+        int to = graph.predecessorEnd(node);
+        if (from == to) {
+            // Pas de prédécesseurs : utiliser la date de début du projet
+            if (projectStart != NONE && newStart == NONE) {
+                newStart = projectStart;
+            }
+        } else {
+            // Date de début = max des dates de fin des prédécesseurs + 1 jour
+            long maxEnd = NONE;
+            for (int e = from; e < to; e++) {
+                long predecessorDue = due[graph.predecessorAt(e)];
+                if (predecessorDue > maxEnd) {
+                    maxEnd = predecessorDue;
+                }
+            }
+            if (maxEnd != NONE) {
+                newStart = maxEnd + 1;
+            }
+        }
+
+        long newDue = due[node];
+        if (newStart != NONE && duration[node] > 0) {
+            newDue = newStart + duration[node] - 1;
+        }
+
+        boolean changed = newStart != start[node] || newDue != due[node];
+        start[node] = newStart;
+        due[node] = newDue;
+        return changed;
+    }
+
+    public int visitedCount() {
+        return visited;
+    }
+
+    public TaskGraph graph() {
+        return graph;
+    }
+
+    public LocalDate startDate(int node) {
+        return toLocalDate(start[node]);
+    }
+
+    public LocalDate dueDate(int node) {
+        return toLocalDate(due[node]);
+    }
+
+    private static long toEpochDay(LocalDate date) {
+        return date != null ? date.toEpochDay() : NONE;
+    }
+
+    private static LocalDate toLocalDate(long epochDay) {
+        return epochDay != NONE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+}
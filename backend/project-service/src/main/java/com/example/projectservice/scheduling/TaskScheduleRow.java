@@ -0,0 +1,9 @@
+package com.example.projectservice.scheduling;
+
+import java.time.LocalDate;
+
+/**
+ * Projection légère d'une tâche pour le calcul des dates (pas d'hydratation d'entité).
+ */
+public record TaskScheduleRow(Long id, String name, int duration, LocalDate startDate, LocalDate dueDate) {
+}
@@ -0,0 +1,206 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.repository.TaskRepository;
+import com.example.projectservice.scheduling.DependencyIndex;
+import com.example.projectservice.scheduling.TaskGraph;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Cache des index de dépendances par projet, utilisé pour la détection de cycles.
+ * Un index est chargé en deux requêtes au premier besoin, puis corrigé en mémoire
+ * après chaque commit qui modifie les tâches ou les dépendances du projet.
+ * Si les dépendances stockées contiennent déjà un cycle, aucun index n'est gardé :
+ * la détection se fait alors par un parcours du graphe chargé.
+ * Le cache est protégé par un ReentrantLock (et non synchronized), jamais tenu pendant une requête SQL.
+ */
+@Service
+public class DependencyIndexService {
+
+    // Nombre maximum de projets gardés en mémoire (les moins récemment utilisés sont évincés)
+    private static final int MAX_PROJECTS = 100;
+
+    private final TaskRepository taskRepository;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<Long, DependencyIndex> indexes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, DependencyIndex> eldest) {
+            return size() > MAX_PROJECTS;
+        }
+    };
+    // Chargements en cours par projet : un index chargé pendant un commit concurrent n'est pas mis en cache.
+    // Une entrée n'existe que le temps d'un chargement, la table reste donc bornée par le nombre de requêtes.
+    private final Map<Long, Load> loads = new HashMap<>();
+
+    public DependencyIndexService(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Indique si "taskId dépend de predecessorId" créerait un cycle, sans accès à la base
+     * une fois l'index du projet chargé.
+     */
+    @Timed(value = "project.cycle.detection", description = "Cycle check before adding a dependency", histogram = true)
+    public boolean wouldCreateCycle(Long projectId, Long taskId, Long predecessorId) {
+        DependencyIndex index = cachedIndex(projectId);
+        if (index != null) {
+            return index.wouldCreateCycle(taskId, predecessorId);
+        }
+
+        long version = startLoad(projectId);
+        try {
+            TaskGraph graph = loadGraph(projectId);
+            if (!graph.isAcyclic()) {
+                // Cycle déjà présent en base : pas d'index possible, parcours du graphe à chaque vérification
+                // (retirer une dépendance du cycle reste autorisé et rend le projet de nouveau indexable)
+                int task = graph.indexOf(taskId);
+                int predecessor = graph.indexOf(predecessorId);
+                return task >= 0 && predecessor >= 0 && graph.reaches(task, predecessor);
+            }
+            index = DependencyIndex.build(graph);
+            cache(projectId, version, index);
+            return index.wouldCreateCycle(taskId, predecessorId);
+        } finally {
+            endLoad(projectId);
+        }
+    }
+
+    public void taskAdded(Long projectId, Long taskId) {
+        afterCommit(projectId, index -> index.addTask(taskId));
+    }
+
+    public void taskRemoved(Long projectId, Long taskId) {
+        afterCommit(projectId, index -> index.removeTask(taskId));
+    }
+
+    public void dependencyAdded(Long projectId, Long taskId, Long predecessorId) {
+        afterCommit(projectId, index -> index.addDependency(taskId, predecessorId));
+    }
+
+    public void dependencyRemoved(Long projectId, Long taskId, Long predecessorId) {
+        afterCommit(projectId, index -> index.removeDependency(taskId, predecessorId));
+    }
+
+    public void predecessorsReplaced(Long projectId, Long taskId, List<Long> predecessorIds) {
+        afterCommit(projectId, index -> index.replacePredecessors(taskId, predecessorIds));
+    }
+
+    /**
+     * Invalide l'index d'un projet (modification globale : sauvegarde ou suppression du projet).
+     */
+    public void projectChanged(Long projectId) {
+        afterCommit(projectId, null);
+    }
+
+    private DependencyIndex cachedIndex(Long projectId) {
+        lock.lock();
+        try {
+            return indexes.get(projectId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TaskGraph loadGraph(Long projectId) {
+        List<Long> taskIds = taskRepository.findIdsByProjectId(projectId);
+        long[] ids = new long[taskIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = taskIds.get(i);
+        }
+        return TaskGraph.build(ids, taskRepository.findEdgesByProjectId(projectId));
+    }
+
+    private long startLoad(Long projectId) {
+        lock.lock();
+        try {
+            Load load = loads.computeIfAbsent(projectId, id -> new Load());
+            load.inFlight++;
+            return load.version;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cache(Long projectId, long version, DependencyIndex index) {
+        lock.lock();
+        try {
+            if (loads.get(projectId).version == version) {
+                indexes.put(projectId, index);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void endLoad(Long projectId) {
+        lock.lock();
+        try {
+            Load load = loads.get(projectId);
+            if (--load.inFlight == 0) {
+                loads.remove(projectId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applique la correction une fois la transaction validée ; rien n'est fait en cas de rollback.
+     * Sans correction (patch null) ou si elle échoue, l'index est simplement évincé.
+     */
+    private void afterCommit(Long projectId, Consumer<DependencyIndex> patch) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(projectId, patch);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(projectId, patch);
+            }
+        });
+    }
+
+    private void apply(Long projectId, Consumer<DependencyIndex> patch) {
+        lock.lock();
+        try {
+            Load load = loads.get(projectId);
+            if (load != null) {
+                load.version++;
+            }
+            DependencyIndex index = indexes.get(projectId);
+            if (index == null) {
+                return;
+            }
+            if (patch == null) {
+                indexes.remove(projectId);
+                return;
+            }
+            try {
+                patch.accept(index);
+            } catch (IllegalStateException e) {
+                indexes.remove(projectId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Chargement en cours : nombre de requêtes qui chargent l'index et nombre de commits survenus depuis.
+     */
+    private static final class Load {
+        private int inFlight;
+        private long version;
+    }
+}
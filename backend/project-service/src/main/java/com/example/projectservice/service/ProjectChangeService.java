@@ -0,0 +1,164 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.model.TaskTombstone;
+import com.example.projectservice.repository.ProjectRepository;
+import com.example.projectservice.repository.TaskRepository;
+import com.example.projectservice.repository.TaskTombstoneRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Point d'entrée des écritures sur un projet. Les changements d'une transaction sont regroupés
+ * puis appliqués juste avant le commit : la révision du projet (utilisée pour les ETag) est
+ * incrémentée une fois, les tâches modifiées reçoivent cette révision et les tâches supprimées
+ * une trace (tombstone). Les DTO mis en cache par {@link ProjectReadService} sont évincés.
+ */
+@Service
+public class ProjectChangeService {
+
+    public static final String PROJECTS = "projects";
+    public static final String PROJECT_TASKS = "projectTasks";
+
+    // Taille des lots pour la clause IN de l'estampillage
+    private static final int STAMP_BATCH_SIZE = 1000;
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final CacheManager cacheManager;
+
+    public ProjectChangeService(ProjectRepository projectRepository, TaskRepository taskRepository,
+                                TaskTombstoneRepository tombstoneRepository, CacheManager cacheManager) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    // Changements en attente d'un projet dans la transaction courante
+    private static final class PendingChanges {
+        final Set<Long> changedTaskIds = new LinkedHashSet<>();
+        final Set<Long> deletedTaskIds = new LinkedHashSet<>();
+    }
+
+    /**
+     * Modification des champs du projet lui-même.
+     */
+    public void projectChanged(Long projectId) {
+        pending(projectId);
+    }
+
+    /**
+     * Tâches créées ou modifiées (champs, dates, prédécesseurs ou assignés).
+     */
+    public void tasksChanged(Long projectId, Collection<Long> taskIds) {
+        pending(projectId).changedTaskIds.addAll(taskIds);
+    }
+
+    public void tasksDeleted(Long projectId, Collection<Long> taskIds) {
+        PendingChanges changes = pending(projectId);
+        changes.deletedTaskIds.addAll(taskIds);
+        changes.changedTaskIds.removeAll(taskIds);
+    }
+
+    /**
+     * Suppression du projet : ses traces de suppression de tâches n'ont plus d'utilité.
+     */
+    public void projectDeleted(Long projectId) {
+        tombstoneRepository.deleteByProjectId(projectId);
+        evictNow(projectId);
+        afterCommit(() -> evictNow(projectId));
+    }
+
+    private PendingChanges pending(Long projectId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Project changes must be recorded inside a transaction");
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, PendingChanges> byProject =
+            (Map<Long, PendingChanges>) TransactionSynchronizationManager.getResource(this);
+        if (byProject == null) {
+            Map<Long, PendingChanges> changes = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    changes.forEach(ProjectChangeService.this::apply);
+                }
+
+                @Override
+                public void afterCommit() {
+                    changes.keySet().forEach(ProjectChangeService.this::evictNow);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProjectChangeService.this);
+                }
+            });
+            byProject = changes;
+        }
+
+        // Éviction immédiate, puis de nouveau après le commit
+        evictNow(projectId);
+        return byProject.computeIfAbsent(projectId, id -> new PendingChanges());
+    }
+
+    private void apply(Long projectId, PendingChanges changes) {
+        // Les insertions en attente doivent exister avant l'estampillage
+        taskRepository.flush();
+
+        projectRepository.incrementRevision(projectId);
+        Long revision = projectRepository.findRevisionById(projectId).orElse(null);
+        if (revision == null) {
+            return; // Projet supprimé dans la même transaction
+        }
+
+        List<Long> changed = new ArrayList<>(changes.changedTaskIds);
+        for (int from = 0; from < changed.size(); from += STAMP_BATCH_SIZE) {
+            taskRepository.stampRevision(changed.subList(from, Math.min(from + STAMP_BATCH_SIZE, changed.size())), revision);
+        }
+
+        List<TaskTombstone> tombstones = new ArrayList<>(changes.deletedTaskIds.size());
+        for (Long taskId : changes.deletedTaskIds) {
+            tombstones.add(new TaskTombstone(taskId, projectId, revision));
+        }
+        tombstoneRepository.saveAll(tombstones);
+        tombstoneRepository.flush();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long projectId) {
+        evict(PROJECTS, projectId);
+        evict(PROJECT_TASKS, projectId);
+    }
+
+    private void evict(String cacheName, Long projectId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(projectId);
+        }
+    }
+}
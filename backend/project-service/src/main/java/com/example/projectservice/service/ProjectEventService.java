@@ -0,0 +1,276 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.config.BackgroundThreads;
+import com.example.projectservice.dto.ProjectEventDTO;
+import com.example.projectservice.dto.TaskDatesDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Flux SSE des changements d'un projet (mise à jour en direct du Gantt).
+ * Les connexions sont des requêtes asynchrones Servlet : un client inactif ne mobilise aucun thread,
+ * seulement sa socket. Les événements sont émis après le commit et sérialisés une seule fois,
+ * puis déposés dans la file bornée de chaque abonné. Chaque file est vidée par au plus un thread
+ * d'envoi à la fois, dans l'ordre de publication : un client lent ne retarde que lui-même, et
+ * celui dont la file déborde est déconnecté (il se resynchronisera via ?since= à la reconnexion).
+ * Les envois passent par un pool borné à file bornée ; si le pool est saturé par des clients lents,
+ * l'abonné qui ne peut plus être servi est déconnecté de même. En mode threads virtuels, chaque envoi
+ * a son propre thread virtuel.
+ */
+@Service
+public class ProjectEventService {
+
+    public static final String TASK_CREATED = "task-created";
+    public static final String TASK_UPDATED = "task-updated";
+    public static final String TASK_DELETED = "task-deleted";
+    public static final String DATES_RECALCULATED = "dates-recalculated";
+    public static final String DEPENDENCY_ADDED = "dependency-added";
+    public static final String DEPENDENCY_REMOVED = "dependency-removed";
+    // Changement global (sauvegarde du projet, import) : le client se resynchronise via ?since=
+    public static final String PROJECT_UPDATED = "project-updated";
+
+    // Le navigateur se reconnecte de lui-même à l'expiration (EventSource)
+    private static final long EMITTER_TIMEOUT = Duration.ofMinutes(30).toMillis();
+    // Commentaire périodique : détecte les clients partis et garde la connexion ouverte derrière la gateway
+    private static final long HEARTBEAT_SECONDS = 25;
+    // Trames en attente par abonné au-delà desquelles le client est considéré comme décroché
+    static final int QUEUE_CAPACITY = 256;
+    // Threads plateforme d'envoi : un thread n'est occupé que pendant l'écriture vers un client
+    private static final int SENDER_THREADS = 16;
+    // Au plus un envoi en attente par abonné : couvre server.tomcat.max-connections flux ouverts
+    private static final int SENDER_QUEUE_CAPACITY = 20_000;
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> CONNECTED = SseEmitter.event().comment("connected").build();
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> PING = SseEmitter.event().comment("ping").build();
+
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeats;
+    private final Executor senders;
+
+    @Autowired
+    public ProjectEventService(ObjectMapper objectMapper, BackgroundThreads threads) {
+        this(objectMapper, threads, SENDER_THREADS, SENDER_QUEUE_CAPACITY);
+    }
+
+    ProjectEventService(ObjectMapper objectMapper, BackgroundThreads threads, int senderThreads, int senderQueueCapacity) {
+        this.objectMapper = objectMapper;
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(threads.factory("project-events-heartbeat-"));
+        if (threads.isVirtual()) {
+            this.senders = new VirtualThreadTaskExecutor("project-events-sender-");
+        } else {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(senderQueueCapacity), threads.factory("project-events-sender-"));
+            pool.allowCoreThreadTimeOut(true);
+            this.senders = pool;
+        }
+        heartbeats.scheduleAtFixedRate(this::heartbeat, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public SseEmitter subscribe(Long projectId) {
+        return subscribe(projectId, new SseEmitter(EMITTER_TIMEOUT));
+    }
+
+    SseEmitter subscribe(Long projectId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        subscribers.compute(projectId, (id, set) -> {
+            Set<Subscriber> current = set != null ? set : ConcurrentHashMap.newKeySet();
+            current.add(subscriber);
+            return current;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        // Envoie immédiatement les en-têtes pour que le client (et la gateway) voie le flux ouvert
+        subscriber.enqueue(CONNECTED);
+        return emitter;
+    }
+
+    public void taskCreated(Long projectId, Long taskId) {
+        publish(projectId, ProjectEventDTO.builder().type(TASK_CREATED).taskId(taskId).build());
+    }
+
+    public void taskUpdated(Long projectId, Long taskId) {
+        publish(projectId, ProjectEventDTO.builder().type(TASK_UPDATED).taskId(taskId).build());
+    }
+
+    public void taskDeleted(Long projectId, Long taskId) {
+        publish(projectId, ProjectEventDTO.builder().type(TASK_DELETED).taskId(taskId).build());
+    }
+
+    public void datesRecalculated(Long projectId, List<TaskDatesDTO> tasks) {
+        publish(projectId, ProjectEventDTO.builder().type(DATES_RECALCULATED).tasks(tasks).build());
+    }
+
+    public void dependencyAdded(Long projectId, Long taskId, Long predecessorId) {
+        publish(projectId, ProjectEventDTO.builder()
+            .type(DEPENDENCY_ADDED).taskId(taskId).predecessorId(predecessorId).build());
+    }
+
+    public void dependencyRemoved(Long projectId, Long taskId, Long predecessorId) {
+        publish(projectId, ProjectEventDTO.builder()
+            .type(DEPENDENCY_REMOVED).taskId(taskId).predecessorId(predecessorId).build());
+    }
+
+    public void projectUpdated(Long projectId) {
+        publish(projectId, ProjectEventDTO.builder().type(PROJECT_UPDATED).build());
+    }
+
+    public boolean hasSubscribers(Long projectId) {
+        return subscribers.containsKey(projectId);
+    }
+
+    /**
+     * Publie l'événement une fois la transaction validée ; rien n'est envoyé en cas de rollback.
+     */
+    private void publish(Long projectId, ProjectEventDTO event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(projectId, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(projectId, event);
+            }
+        });
+    }
+
+    private void dispatch(Long projectId, ProjectEventDTO event) {
+        Set<Subscriber> current = subscribers.get(projectId);
+        if (current == null) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Cannot serialize project event", e);
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame =
+            SseEmitter.event().name(event.getType()).data(json, MediaType.APPLICATION_JSON).build();
+        for (Subscriber subscriber : current) {
+            subscriber.enqueue(frame);
+        }
+    }
+
+    private void heartbeat() {
+        subscribers.values().forEach(current -> current.forEach(subscriber -> subscriber.enqueue(PING)));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.projectId, (id, current) -> {
+            current.remove(subscriber);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    /**
+     * Ferme les flux ouverts dès l'arrêt du contexte, avant l'arrêt gracieux de Tomcat : sinon chaque flux
+     * compte comme une requête active et retient l'arrêt jusqu'à son délai maximal.
+     */
+    @EventListener(ContextClosedEvent.class)
+    void closeStreams() {
+        subscribers.values().forEach(current -> current.forEach(subscriber -> {
+            unsubscribe(subscriber);
+            subscriber.emitter.complete();
+        }));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        if (senders instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+        closeStreams();
+    }
+
+    /**
+     * Abonné : son flux SSE et les trames qui restent à lui envoyer.
+     */
+    private final class Subscriber {
+        private final Long projectId;
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Long projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (!queue.offer(frame)) {
+                // File pleine : le client ne suit plus, on ferme son flux plutôt que de retenir la mémoire
+                disconnect();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Pool d'envoi saturé par des clients lents
+                    disconnect();
+                }
+            }
+        }
+
+        private void disconnect() {
+            unsubscribe(this);
+            queue.clear();
+            emitter.complete();
+        }
+
+        private void drain() {
+            while (true) {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame = queue.poll();
+                if (frame == null) {
+                    draining.set(false);
+                    // Une trame déposée entre poll() et set(false) n'a pas relancé d'envoi : la reprendre ici
+                    if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                try {
+                    emitter.send(frame);
+                } catch (IOException | RuntimeException e) {
+                    // Client déconnecté ou flux déjà terminé
+                    unsubscribe(this);
+                    queue.clear();
+                    draining.set(false);
+                    return;
+                }
+            }
+        }
+    }
+}
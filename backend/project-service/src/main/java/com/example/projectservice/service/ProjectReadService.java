@@ -0,0 +1,174 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.dto.ProjectDTO;
+import com.example.projectservice.dto.TaskDTO;
+import com.example.projectservice.dto.TaskDeltaDTO;
+import com.example.projectservice.mapper.TaskMapper;
+import com.example.projectservice.model.Project;
+import com.example.projectservice.repository.ProjectRepository;
+import com.example.projectservice.repository.TaskAssignment;
+import com.example.projectservice.repository.TaskRepository;
+import com.example.projectservice.repository.TaskRow;
+import com.example.projectservice.repository.TaskTombstoneRepository;
+import com.example.projectservice.scheduling.TaskEdge;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lecture d'un projet et de ses tâches en un nombre constant de requêtes :
+ * le projet, les tâches, les arcs task_dependencies et les lignes task_assignees,
+ * assemblés directement en DTO sans initialiser les collections paresseuses.
+ * Les résultats sont mis en cache par projet, étiquetés par la révision du projet, et évincés par
+ * {@link ProjectChangeService}. Une entrée plus ancienne que la révision demandée est rechargée :
+ * le corps servi est toujours au moins aussi récent que l'ETag calculé avant la lecture.
+ */
+@Service
+public class ProjectReadService {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskMapper taskMapper;
+    private final CacheManager cacheManager;
+
+    // Révision antérieure à toute modification : charge toutes les tâches
+    private static final long ALL = -1;
+
+    public ProjectReadService(ProjectRepository projectRepository, TaskRepository taskRepository,
+                              TaskTombstoneRepository tombstoneRepository, TaskMapper taskMapper,
+                              CacheManager cacheManager) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.taskMapper = taskMapper;
+        this.cacheManager = cacheManager;
+    }
+
+    // Valeur mise en cache avec la révision du projet au moment de la lecture
+    private record Revisioned<T>(long revision, T value) {
+    }
+
+    /**
+     * Révision courante du projet, en une requête sur une seule colonne.
+     */
+    @Transactional(readOnly = true)
+    public long getRevision(Long projectId) {
+        return projectRepository.findRevisionById(projectId)
+            .orElseThrow(() -> new RuntimeException("Project not found"));
+    }
+
+    public static String etag(long revision) {
+        return "\"" + revision + "\"";
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectDTO getProject(Long projectId, long revision) {
+        ProjectDTO cached = cached(ProjectChangeService.PROJECTS, projectId, revision);
+        if (cached != null) {
+            return cached;
+        }
+        ProjectDTO dto = loadProject(projectId);
+        put(ProjectChangeService.PROJECTS, projectId, revision, dto);
+        return dto;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getTasks(Long projectId, long revision) {
+        List<TaskDTO> cached = cached(ProjectChangeService.PROJECT_TASKS, projectId, revision);
+        if (cached != null) {
+            return cached;
+        }
+        List<TaskDTO> tasks = loadTasks(projectId, ALL);
+        put(ProjectChangeService.PROJECT_TASKS, projectId, revision, tasks);
+        return tasks;
+    }
+
+    /**
+     * Tâches modifiées et supprimées depuis la révision since, lues via l'index (project_id, revision).
+     * Les lignes peuvent être plus récentes que la révision renvoyée : elles seront simplement
+     * renvoyées une seconde fois à la synchronisation suivante.
+     */
+    @Transactional(readOnly = true)
+    public TaskDeltaDTO getTaskChanges(Long projectId, long since) {
+        long revision = getRevision(projectId);
+        if (since >= revision) {
+            return TaskDeltaDTO.builder().revision(revision).build();
+        }
+        return TaskDeltaDTO.builder()
+            .revision(revision)
+            .tasks(loadTasks(projectId, since))
+            .deletedTaskIds(tombstoneRepository.findTaskIdsDeletedSince(projectId, since))
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String cacheName, Long projectId, long revision) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Revisioned<T> entry = cache != null ? cache.get(projectId, Revisioned.class) : null;
+        return entry != null && entry.revision() >= revision ? entry.value() : null;
+    }
+
+    private <T> void put(String cacheName, Long projectId, long revision, T value) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.put(projectId, new Revisioned<>(revision, value));
+        }
+    }
+
+    private ProjectDTO loadProject(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new RuntimeException("Project not found"));
+
+        ProjectDTO dto = new ProjectDTO();
+        dto.setId(project.getId());
+        dto.setVersion(project.getVersion());
+        dto.setName(project.getName());
+        dto.setDescription(project.getDescription());
+        dto.setStartDate(taskMapper.dateToString(project.getStartDate()));
+        dto.setEndDate(taskMapper.dateToString(project.getEndDate()));
+        dto.setTasks(loadTasks(projectId, ALL));
+        return dto;
+    }
+
+    private List<TaskDTO> loadTasks(Long projectId, long since) {
+        List<TaskRow> rows = taskRepository.findRowsChangedSince(projectId, since);
+        Map<Long, TaskDTO> tasksById = new HashMap<>(rows.size() * 2);
+        List<TaskDTO> tasks = new ArrayList<>(rows.size());
+        for (TaskRow row : rows) {
+            TaskDTO task = TaskDTO.builder()
+                .id(row.id())
+                .version(row.version())
+                .name(row.name())
+                .duration(row.duration())
+                .startDate(taskMapper.dateToString(row.startDate()))
+                .dueDate(taskMapper.dateToString(row.dueDate()))
+                .done(row.done())
+                .status(taskMapper.statusToString(row.status()))
+                .progress(row.progress())
+                .build();
+            tasksById.put(row.id(), task);
+            tasks.add(task);
+        }
+
+        for (TaskEdge edge : taskRepository.findEdgesChangedSince(projectId, since)) {
+            TaskDTO task = tasksById.get(edge.taskId());
+            if (task != null) {
+                task.getPredecessorIds().add(edge.predecessorId());
+            }
+        }
+        for (TaskAssignment assignment : taskRepository.findAssignmentsChangedSince(projectId, since)) {
+            TaskDTO task = tasksById.get(assignment.taskId());
+            if (task != null) {
+                task.getAssigneeIds().add(assignment.userId());
+            }
+        }
+        return tasks;
+    }
+}
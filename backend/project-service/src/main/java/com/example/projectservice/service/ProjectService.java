@@ -1,9 +1,15 @@
 package com.example.projectservice.service;
 
+import com.example.projectservice.dto.KeysetPageDTO;
+import com.example.projectservice.dto.ProjectSummaryDTO;
+import com.example.projectservice.exception.ConflictException;
+import com.example.projectservice.exception.InvalidPatchException;
 import com.example.projectservice.model.Project;
 import com.example.projectservice.model.Task;
 import com.example.projectservice.repository.ProjectRepository;
+import com.example.projectservice.repository.ProjectSummaryRepository;
 import com.example.projectservice.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,13 +17,29 @@ import java.time.LocalDate;
 import java.util.*;
 
 @Service
+@Timed(value = "project.service", description = "ProjectService operations", histogram = true)
 public class ProjectService {
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
+    private final TaskSchedulingService schedulingService;
+    private final DependencyIndexService dependencyIndex;
+    private final ProjectSummaryRepository projectSummaryRepository;
+    private final ProjectChangeService projectChanges;
+    private final ProjectEventService projectEvents;
+    private final TaskChangeHistory changeHistory;
 
-    public ProjectService(ProjectRepository projectRepository, TaskRepository taskRepository) {
+    public ProjectService(ProjectRepository projectRepository, TaskRepository taskRepository,
+                          TaskSchedulingService schedulingService, DependencyIndexService dependencyIndex,
+                          ProjectSummaryRepository projectSummaryRepository, ProjectChangeService projectChanges,
+                          ProjectEventService projectEvents, TaskChangeHistory changeHistory) {
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
+        this.projectSummaryRepository = projectSummaryRepository;
+        this.projectChanges = projectChanges;
+        this.projectEvents = projectEvents;
+        this.changeHistory = changeHistory;
+        this.schedulingService = schedulingService;
+        this.dependencyIndex = dependencyIndex;
     }
 
     // ----- Projects -----
@@ -25,6 +47,14 @@ public class ProjectService {
         return projectRepository.findAll();
     }
 
+    /**
+     * Résumés paginés des projets, sans charger les tâches
+     */
+    public KeysetPageDTO<ProjectSummaryDTO> getProjectSummaries(ProjectSummaryRepository.Filter filter, String sort,
+                                                                boolean descending, String cursor, int limit) {
+        return projectSummaryRepository.findPage(filter, sort, descending, cursor, limit);
+    }
+
     public Optional<Project> getProject(Long id) {
         return projectRepository.findById(id);
     }
@@ -33,13 +63,29 @@ public class ProjectService {
     public Project saveProject(Project project) {
         // Si le projet a des tâches, configurer la relation bidirectionnelle
         if (project.getTasks() != null && !project.getTasks().isEmpty()) {
+            // Charger en une requête toutes les tâches existantes référencées
+            Map<Long, Task> existingTasks = new HashMap<>();
+            List<Long> existingIds = project.getTasks().stream()
+                .map(Task::getId)
+                .filter(Objects::nonNull)
+                .toList();
+            if (!existingIds.isEmpty()) {
+                for (Task existingTask : taskRepository.findAllById(existingIds)) {
+                    existingTasks.put(existingTask.getId(), existingTask);
+                }
+            }
+
             for (Task task : project.getTasks()) {
                 task.setProject(project);
                 
                 // Si la tâche a un ID (mise à jour), gérer les prédécesseurs
                 if (task.getId() != null) {
-                    Task existingTask = taskRepository.findById(task.getId()).orElse(null);
+                    Task existingTask = existingTasks.get(task.getId());
                     if (existingTask != null) {
+                        // Client sans version : la dernière écriture l'emporte, comme auparavant
+                        if (task.getVersion() == null) {
+                            task.setVersion(existingTask.getVersion());
+                        }
                         // Copier les prédécesseurs de la tâche existante
                         // car ils ne sont pas inclus dans l'objet task reçu
                         task.setPredecessors(existingTask.getPredecessors());
@@ -48,11 +94,75 @@ public class ProjectService {
                 }
             }
         }
-        return projectRepository.save(project);
+        if (project.getId() != null && project.getVersion() == null) {
+            projectRepository.findVersionById(project.getId()).ifPresent(project::setVersion);
+        }
+
+        // Tâches existantes avant la sauvegarde : celles absentes du projet reçu seront supprimées (orphanRemoval)
+        Set<Long> previousTaskIds = project.getId() != null
+            ? new HashSet<>(taskRepository.findIdsByProjectId(project.getId()))
+            : new HashSet<>();
+
+        Project savedProject = projectRepository.save(project);
+        List<Long> savedTaskIds = savedProject.getTasks() != null
+            ? savedProject.getTasks().stream().map(Task::getId).filter(Objects::nonNull).toList()
+            : List.of();
+        savedTaskIds.forEach(previousTaskIds::remove);
+
+        dependencyIndex.projectChanged(savedProject.getId());
+        projectChanges.projectChanged(savedProject.getId());
+        projectChanges.tasksChanged(savedProject.getId(), savedTaskIds);
+        projectChanges.tasksDeleted(savedProject.getId(), previousTaskIds);
+        projectEvents.projectUpdated(savedProject.getId());
+        return savedProject;
     }
 
+    /**
+     * Modification partielle des champs du projet, sans charger ni réécrire ses tâches.
+     * Pas de fusion pour le projet : une version périmée est un conflit.
+     */
+    @Transactional
+    public Project patchProject(Long projectId, Map<String, Object> changes, Long expectedVersion) {
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new RuntimeException("Project not found"));
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new ConflictException("Project", projectId, changes.keySet(), "Project was modified concurrently");
+        }
+
+        boolean changed = false;
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            Object value = change.getValue();
+            Object previous = switch (change.getKey()) {
+                case "name" -> project.getName();
+                case "description" -> project.getDescription();
+                case "startDate" -> project.getStartDate();
+                case "endDate" -> project.getEndDate();
+                default -> throw new InvalidPatchException(change.getKey(), "Unsupported project field: " + change.getKey());
+            };
+            if (Objects.equals(previous, value)) {
+                continue;
+            }
+            switch (change.getKey()) {
+                case "name" -> project.setName((String) value);
+                case "description" -> project.setDescription((String) value);
+                case "startDate" -> project.setStartDate((LocalDate) value);
+                default -> project.setEndDate((LocalDate) value);
+            }
+            changed = true;
+        }
+
+        if (changed) {
+            projectChanges.projectChanged(projectId);
+            projectEvents.projectUpdated(projectId);
+        }
+        return project;
+    }
+
+    @Transactional
     public void deleteProject(Long id) {
         projectRepository.deleteById(id);
+        dependencyIndex.projectChanged(id);
+        projectChanges.projectDeleted(id);
     }
 
     // ----- Tasks -----
@@ -62,6 +172,10 @@ public class ProjectService {
                 .orElseThrow(() -> new RuntimeException("Project not found"));
     }
 
+    public Optional<Task> getTask(Long taskId) {
+        return taskRepository.findById(taskId);
+    }
+
     @Transactional
     public Task addTask(Long projectId, Task task) {
         return projectRepository.findById(projectId).map(project -> {
@@ -72,13 +186,18 @@ public class ProjectService {
                 task.setStatus(Task.TaskStatus.TODO);
             }
             
-            return taskRepository.save(task);
+            Task savedTask = taskRepository.save(task);
+            dependencyIndex.taskAdded(projectId, savedTask.getId());
+            projectChanges.tasksChanged(projectId, List.of(savedTask.getId()));
+            projectEvents.taskCreated(projectId, savedTask.getId());
+            return savedTask;
         }).orElseThrow(() -> new RuntimeException("Project not found"));
     }
 
     @Transactional
     public Task updateTask(Long projectId, Long taskId, Task updatedTask) {
         return taskRepository.findById(taskId).map(task -> {
+            TaskChangeHistory.State before = TaskChangeHistory.State.of(task);
             task.setName(updatedTask.getName());
             task.setDuration(updatedTask.getDuration());
             task.setDone(updatedTask.isDone());
@@ -90,6 +209,9 @@ public class ProjectService {
                 task.setStatus(updatedTask.getStatus());
             }
             
+            projectChanges.tasksChanged(task.getProject().getId(), List.of(taskId));
+            projectEvents.taskUpdated(task.getProject().getId(), taskId);
+            changeHistory.record(before, TaskChangeHistory.State.of(task));
             return taskRepository.save(task);
         }).orElseThrow(() -> new RuntimeException("Task not found"));
     }
@@ -98,62 +220,102 @@ public class ProjectService {
     public Task updateTaskWithPredecessors(Long projectId, Long taskId, Task updatedTask, List<Long> predecessorIds) {
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new RuntimeException("Task not found"));
-        
-        // Mettre à jour les champs de base
-        task.setName(updatedTask.getName());
-        task.setDuration(updatedTask.getDuration());
-        task.setDone(updatedTask.isDone());
-        task.setStartDate(updatedTask.getStartDate());
-        task.setDueDate(updatedTask.getDueDate());
-        task.setProgress(updatedTask.getProgress()); // Pourcentage d'avancement
-        
-        if (updatedTask.getStatus() != null) {
-            task.setStatus(updatedTask.getStatus());
+        TaskChangeHistory.State before = TaskChangeHistory.State.of(task);
+
+        // Valeurs demandées ; statut et assignés absents restent inchangés
+        Map<String, Object> requested = TaskChangeHistory.fields(updatedTask,
+            predecessorIds != null ? predecessorIds : List.of());
+        if (updatedTask.getStatus() == null) {
+            requested.put(TaskChangeHistory.STATUS, before.fields().get(TaskChangeHistory.STATUS));
         }
-        
-        // Mettre à jour les assignés (ressources)
-        if (updatedTask.getAssigneeIds() != null) {
-            task.setAssigneeIds(new ArrayList<>(updatedTask.getAssigneeIds()));
+        if (updatedTask.getAssigneeIds() == null) {
+            requested.put(TaskChangeHistory.ASSIGNEE_IDS, before.fields().get(TaskChangeHistory.ASSIGNEE_IDS));
         }
-        
-        // Mettre à jour les prédécesseurs
-        // IMPORTANT: Valider d'abord que tous les prédécesseurs existent AVANT de clear()
-        List<Task> newPredecessors = new ArrayList<>();
-        if (predecessorIds != null && !predecessorIds.isEmpty()) {
-            for (Long predecessorId : predecessorIds) {
-                Task predecessor = taskRepository.findById(predecessorId)
-                    .orElseThrow(() -> new RuntimeException("Predecessor task not found: " + predecessorId));
-                
-                // Vérifier que les tâches sont dans le même projet
-                if (!task.getProject().getId().equals(predecessor.getProject().getId())) {
-                    throw new RuntimeException("Tasks must be in the same project");
-                }
-                
-                // Vérifier qu'il n'y a pas de cycle
-                if (wouldCreateCycle(task, predecessor)) {
-                    throw new RuntimeException("Adding this dependency would create a cycle");
-                }
-                
-                newPredecessors.add(predecessor);
-            }
+
+        // Version périmée : fusion champ par champ avec les modifications faites depuis
+        if (updatedTask.getVersion() != null && !updatedTask.getVersion().equals(task.getVersion())) {
+            requested = changeHistory.rebase(before, updatedTask.getVersion(), requested);
         }
-        
-        // Maintenant qu'on a validé tous les prédécesseurs, on peut clear et reconstruire
-        task.getPredecessors().clear();
-        task.getPredecessors().addAll(newPredecessors);
-        
-        Task savedTask = taskRepository.save(task);
-        
-        // Recalculer les dates si des prédécesseurs ont changé
-        if (predecessorIds != null) {
-            recalculateTaskDates(savedTask);
+
+        // Recalculer les dates si des prédécesseurs ont été envoyés
+        return writeTask(task, before, requested, predecessorIds != null);
+    }
+
+    /**
+     * Modification partielle (JSON Merge Patch) : seuls les champs présents dans changes sont modifiés.
+     * Avec @DynamicUpdate, l'UPDATE ne porte que sur les colonnes changées, et les prédécesseurs
+     * ne sont réécrits que s'ils font partie du patch.
+     */
+    @Transactional
+    public Task patchTask(Long taskId, Map<String, Object> changes, Long expectedVersion) {
+        Task task = taskRepository.findById(taskId)
+            .orElseThrow(() -> new RuntimeException("Task not found"));
+        TaskChangeHistory.State before = TaskChangeHistory.State.of(task);
+
+        Map<String, Object> requested = new LinkedHashMap<>(before.fields());
+        requested.putAll(changes);
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            requested = changeHistory.rebase(before, expectedVersion, requested);
         }
-        
-        return savedTask;
+
+        boolean scheduleChanged = changes.containsKey(TaskChangeHistory.DURATION)
+            || changes.containsKey(TaskChangeHistory.START_DATE)
+            || changes.containsKey(TaskChangeHistory.DUE_DATE)
+            || changes.containsKey(TaskChangeHistory.PREDECESSOR_IDS);
+        return writeTask(task, before, requested, scheduleChanged);
+    }
+
+    /**
+     * Écrit les valeurs demandées sur la tâche ; rien n'est écrit ni notifié si elles sont inchangées
+     */
+    private Task writeTask(Task task, TaskChangeHistory.State before, Map<String, Object> requested,
+                           boolean recalculate) {
+        Long projectId = task.getProject().getId();
+        Long taskId = task.getId();
+
+        // Mettre à jour les champs de base et les assignés (ressources)
+        TaskChangeHistory.applyTo(requested, task);
+
+        @SuppressWarnings("unchecked")
+        List<Long> requestedPredecessorIds = (List<Long>) requested.get(TaskChangeHistory.PREDECESSOR_IDS);
+        if (!TaskChangeHistory.sorted(requestedPredecessorIds).equals(before.fields().get(TaskChangeHistory.PREDECESSOR_IDS))) {
+            // IMPORTANT: Valider d'abord que tous les prédécesseurs existent AVANT de clear()
+            List<Task> newPredecessors = resolvePredecessors(task, requestedPredecessorIds);
+
+            // Maintenant qu'on a validé tous les prédécesseurs, on peut clear et reconstruire
+            List<Long> previousPredecessorIds = task.getPredecessors().stream().map(Task::getId).toList();
+            task.getPredecessors().clear();
+            task.getPredecessors().addAll(newPredecessors);
+            dependencyIndex.predecessorsReplaced(projectId, taskId, newPredecessors.stream().map(Task::getId).toList());
+            publishDependencyChanges(task, previousPredecessorIds, newPredecessors);
+        }
+
+        TaskChangeHistory.State after = TaskChangeHistory.State.of(task);
+        if (!after.fields().equals(before.fields())) {
+            changeHistory.record(before, after);
+            task = taskRepository.save(task);
+            projectChanges.tasksChanged(projectId, List.of(taskId));
+            projectEvents.taskUpdated(projectId, taskId);
+        }
+
+        if (recalculate) {
+            recalculateTaskDates(task);
+        }
+        return task;
     }
 
+    @Transactional
     public void deleteTask(Long taskId) {
-        taskRepository.deleteById(taskId);
+        taskRepository.findById(taskId).ifPresent(task -> {
+            Long projectId = task.getProject().getId();
+            // Les successeurs perdent ce prédécesseur : ils font partie du changement
+            List<Long> successorIds = taskRepository.findSuccessorIds(taskId);
+            taskRepository.delete(task);
+            dependencyIndex.taskRemoved(projectId, taskId);
+            projectChanges.tasksChanged(projectId, successorIds);
+            projectChanges.tasksDeleted(projectId, List.of(taskId));
+            projectEvents.taskDeleted(projectId, taskId);
+        });
     }
 
     // ----- Gestion des dépendances -----
@@ -175,8 +337,13 @@ public class ProjectService {
             throw new RuntimeException("Adding this dependency would create a cycle");
         }
         
+        TaskChangeHistory.State before = TaskChangeHistory.State.of(task);
         task.getPredecessors().add(predecessor);
+        changeHistory.record(before, TaskChangeHistory.State.of(task));
         Task savedTask = taskRepository.save(task);
+        dependencyIndex.dependencyAdded(task.getProject().getId(), taskId, predecessorId);
+        projectChanges.tasksChanged(task.getProject().getId(), List.of(taskId));
+        projectEvents.dependencyAdded(task.getProject().getId(), taskId, predecessorId);
         
         // Recalculer les dates
         recalculateTaskDates(savedTask);
@@ -189,8 +356,15 @@ public class ProjectService {
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new RuntimeException("Task not found"));
         
-        task.getPredecessors().removeIf(p -> p.getId().equals(predecessorId));
+        TaskChangeHistory.State before = TaskChangeHistory.State.of(task);
+        boolean removed = task.getPredecessors().removeIf(p -> p.getId().equals(predecessorId));
+        changeHistory.record(before, TaskChangeHistory.State.of(task));
         Task savedTask = taskRepository.save(task);
+        dependencyIndex.dependencyRemoved(task.getProject().getId(), taskId, predecessorId);
+        projectChanges.tasksChanged(task.getProject().getId(), List.of(taskId));
+        if (removed) {
+            projectEvents.dependencyRemoved(task.getProject().getId(), taskId, predecessorId);
+        }
         
         // Recalculer les dates
         recalculateTaskDates(savedTask);
@@ -204,31 +378,20 @@ public class ProjectService {
             .orElseThrow(() -> new RuntimeException("Task not found"));
         
         // IMPORTANT: Valider d'abord que tous les prédécesseurs existent AVANT de clear()
-        List<Task> newPredecessors = new ArrayList<>();
-        if (predecessorIds != null && !predecessorIds.isEmpty()) {
-            for (Long predecessorId : predecessorIds) {
-                Task predecessor = taskRepository.findById(predecessorId)
-                    .orElseThrow(() -> new RuntimeException("Predecessor task not found: " + predecessorId));
-                
-                // Vérifier que les tâches sont dans le même projet
-                if (!task.getProject().getId().equals(predecessor.getProject().getId())) {
-                    throw new RuntimeException("Tasks must be in the same project");
-                }
-                
-                // Vérifier qu'il n'y a pas de cycle
-                if (wouldCreateCycle(task, predecessor)) {
-                    throw new RuntimeException("Adding this dependency would create a cycle");
-                }
-                
-                newPredecessors.add(predecessor);
-            }
-        }
+        List<Task> newPredecessors = resolvePredecessors(task, predecessorIds);
         
         // Maintenant qu'on a validé tous les prédécesseurs, on peut clear et reconstruire
+        TaskChangeHistory.State before = TaskChangeHistory.State.of(task);
+        List<Long> previousPredecessorIds = task.getPredecessors().stream().map(Task::getId).toList();
         task.getPredecessors().clear();
         task.getPredecessors().addAll(newPredecessors);
+        changeHistory.record(before, TaskChangeHistory.State.of(task));
         
         Task savedTask = taskRepository.save(task);
+        dependencyIndex.predecessorsReplaced(task.getProject().getId(), taskId,
+            newPredecessors.stream().map(Task::getId).toList());
+        projectChanges.tasksChanged(task.getProject().getId(), List.of(taskId));
+        publishDependencyChanges(task, previousPredecessorIds, newPredecessors);
         
         // Recalculer les dates
         recalculateTaskDates(savedTask);
@@ -237,87 +400,77 @@ public class ProjectService {
     }
 
     /**
-     * Vérifie si l'ajout d'une dépendance créerait un cycle
+     * Publie un événement par dépendance ajoutée ou retirée lors d'un remplacement des prédécesseurs
      */
-    private boolean wouldCreateCycle(Task task, Task newPredecessor) {
-        Set<Long> visited = new HashSet<>();
-        return hasCycleDFS(newPredecessor, task.getId(), visited);
-    }
-
-    private boolean hasCycleDFS(Task current, Long targetId, Set<Long> visited) {
-        if (current.getId().equals(targetId)) {
-            return true;
+    private void publishDependencyChanges(Task task, List<Long> previousIds, List<Task> newPredecessors) {
+        Long projectId = task.getProject().getId();
+        Set<Long> previous = new HashSet<>(previousIds);
+        Set<Long> current = new LinkedHashSet<>();
+        for (Task predecessor : newPredecessors) {
+            current.add(predecessor.getId());
         }
-        
-        if (visited.contains(current.getId())) {
-            return false;
+        for (Long predecessorId : current) {
+            if (!previous.contains(predecessorId)) {
+                projectEvents.dependencyAdded(projectId, task.getId(), predecessorId);
+            }
         }
-        
-        visited.add(current.getId());
-        
-        for (Task predecessor : current.getPredecessors()) {
-            if (hasCycleDFS(predecessor, targetId, visited)) {
-                return true;
+        for (Long predecessorId : previousIds) {
+            if (!current.contains(predecessorId)) {
+                projectEvents.dependencyRemoved(projectId, task.getId(), predecessorId);
             }
         }
-        
-        return false;
     }
 
     /**
-     * Recalcule automatiquement les dates de début et de fin d'une tâche
-     * basées sur ses prédécesseurs
+     * Charge tous les prédécesseurs demandés en une seule requête,
+     * puis valide en mémoire : existence, même projet, absence de cycle
      */
-    @Transactional
-    public void recalculateTaskDates(Task task) {
-        if (task.getPredecessors() == null || task.getPredecessors().isEmpty()) {
-            // Pas de prédécesseurs : utiliser la date de début du projet
-            Project project = task.getProject();
-            if (project.getStartDate() != null && task.getStartDate() == null) {
-                task.setStartDate(project.getStartDate());
+    private List<Task> resolvePredecessors(Task task, List<Long> predecessorIds) {
+        List<Task> newPredecessors = new ArrayList<>();
+        if (predecessorIds == null || predecessorIds.isEmpty()) {
+            return newPredecessors;
+        }
+
+        Map<Long, Task> tasksById = new HashMap<>();
+        for (Task predecessor : taskRepository.findAllById(new HashSet<>(predecessorIds))) {
+            tasksById.put(predecessor.getId(), predecessor);
+        }
+
+        for (Long predecessorId : predecessorIds) {
+            Task predecessor = tasksById.get(predecessorId);
+            if (predecessor == null) {
+                throw new RuntimeException("Predecessor task not found: " + predecessorId);
             }
-        } else {
-            // Calculer la date de début comme le max des dates de fin des prédécesseurs
-            LocalDate maxEndDate = task.getPredecessors().stream()
-                .map(Task::getDueDate)
-                .filter(Objects::nonNull)
-                .max(LocalDate::compareTo)
-                .orElse(null);
             
-            if (maxEndDate != null) {
-                task.setStartDate(maxEndDate.plusDays(1)); // Commence le jour suivant
+            // Vérifier que les tâches sont dans le même projet
+            if (!task.getProject().getId().equals(predecessor.getProject().getId())) {
+                throw new RuntimeException("Tasks must be in the same project");
             }
+            
+            // Vérifier qu'il n'y a pas de cycle
+            if (wouldCreateCycle(task, predecessor)) {
+                throw new RuntimeException("Adding this dependency would create a cycle");
+            }
+            
+            newPredecessors.add(predecessor);
         }
-        
-        // Calculer la date de fin si on a une date de début et une durée
-        if (task.getStartDate() != null && task.getDuration() > 0) {
-            task.setDueDate(task.getStartDate().plusDays(task.getDuration() - 1));
-        }
-        
-        taskRepository.save(task);
-        
-        // Recalculer récursivement pour les successeurs
-        for (Task successor : task.getSuccessors()) {
-            recalculateTaskDates(successor);
-        }
+        return newPredecessors;
     }
 
     /**
-     * Recalcule les dates pour toutes les tâches d'un projet
+     * Vérifie si l'ajout d'une dépendance créerait un cycle,
+     * à partir de l'index de dépendances du projet gardé en mémoire
+     */
+    private boolean wouldCreateCycle(Task task, Task newPredecessor) {
+        return dependencyIndex.wouldCreateCycle(task.getProject().getId(), task.getId(), newPredecessor.getId());
+    }
+
+    /**
+     * Recalcule automatiquement les dates de début et de fin d'une tâche
+     * basées sur ses prédécesseurs, ainsi que celles des tâches qui en dépendent
      */
     @Transactional
-    public void recalculateProjectDates(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new RuntimeException("Project not found"));
-        
-        // Trouver les tâches sans prédécesseurs (points de départ)
-        List<Task> rootTasks = project.getTasks().stream()
-            .filter(task -> task.getPredecessors() == null || task.getPredecessors().isEmpty())
-            .toList();
-        
-        // Recalculer à partir de chaque racine
-        for (Task rootTask : rootTasks) {
-            recalculateTaskDates(rootTask);
-        }
+    public void recalculateTaskDates(Task task) {
+        schedulingService.propagateFrom(task.getProject().getId(), task.getId());
     }
 }
@@ -0,0 +1,185 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.config.BackgroundThreads;
+import com.example.projectservice.dto.RecalculationJobDTO;
+import com.example.projectservice.repository.ProjectRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * File de recalcul des dates de projets, exécutée en arrière-plan.
+ * Un seul recalcul par projet à la fois ; les demandes reçues tant qu'un recalcul n'a pas démarré
+ * le rejoignent au lieu d'en créer un nouveau. Les projets sont servis dans l'ordre des demandes
+ * par un nombre fixe de workers : un gros projet n'occupe jamais plus d'un worker.
+ * L'état des jobs est protégé par un ReentrantLock (et non synchronized) : en mode threads virtuels,
+ * un thread en attente du verrou libère son porteur.
+ */
+@Service
+public class RecalculationJobService {
+
+    public enum Status { QUEUED, RUNNING, SUCCEEDED, FAILED }
+
+    private static final int WORKERS = 4;
+    // Nombre de jobs conservés pour la consultation du statut (les plus anciens sont oubliés)
+    private static final int MAX_JOBS = 1000;
+
+    private final ProjectRepository projectRepository;
+    private final TaskSchedulingService schedulingService;
+
+    private final ExecutorService workers;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Recalcul en attente (pas encore démarré) et recalcul en cours, par projet
+    private final Map<Long, Job> pending = new HashMap<>();
+    private final Map<Long, Job> running = new HashMap<>();
+    private final Map<String, Job> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+            return size() > MAX_JOBS;
+        }
+    };
+
+    public RecalculationJobService(ProjectRepository projectRepository, TaskSchedulingService schedulingService,
+                                   BackgroundThreads threads) {
+        this.projectRepository = projectRepository;
+        this.schedulingService = schedulingService;
+        // Le nombre de workers reste borné (charge sur la base) ; en mode threads virtuels, ce sont des threads virtuels
+        this.workers = new ThreadPoolExecutor(WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+            threads.factory("recalculation-"));
+    }
+
+    private static final class Job {
+        final String id = UUID.randomUUID().toString();
+        final Long projectId;
+        final Instant submittedAt = Instant.now();
+        int requests = 1;
+        Status status = Status.QUEUED;
+        Instant startedAt;
+        Instant finishedAt;
+        Integer changedTasks;
+        String error;
+
+        Job(Long projectId) {
+            this.projectId = projectId;
+        }
+    }
+
+    /**
+     * Demande un recalcul du projet. Retourne le job qui le prendra en compte :
+     * un job encore en attente pour ce projet, sinon un nouveau job.
+     */
+    public RecalculationJobDTO submit(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+        lock.lock();
+        try {
+            Job job = pending.get(projectId);
+            if (job != null) {
+                job.requests++;
+                return toDto(job);
+            }
+            job = new Job(projectId);
+            pending.put(projectId, job);
+            jobs.put(job.id, job);
+            // Si un recalcul tourne déjà, celui-ci démarrera à sa fin
+            if (!running.containsKey(projectId)) {
+                dispatch(job);
+            }
+            return toDto(job);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public RecalculationJobDTO getJob(Long projectId, String jobId) {
+        lock.lock();
+        try {
+            Job job = jobs.get(jobId);
+            if (job == null || !job.projectId.equals(projectId)) {
+                throw new RuntimeException("Recalculation job not found");
+            }
+            return toDto(job);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch(Job job) {
+        workers.execute(() -> run(job));
+    }
+
+    private void run(Job job) {
+        lock.lock();
+        try {
+            pending.remove(job.projectId, job);
+            running.put(job.projectId, job);
+            job.status = Status.RUNNING;
+            job.startedAt = Instant.now();
+        } finally {
+            lock.unlock();
+        }
+
+        Status status = Status.FAILED;
+        Integer changed = null;
+        String error = null;
+        try {
+            changed = schedulingService.recalculateProject(job.projectId);
+            status = Status.SUCCEEDED;
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+        } finally {
+            finish(job, status, changed, error);
+        }
+    }
+
+    private void finish(Job job, Status status, Integer changed, String error) {
+        lock.lock();
+        try {
+            job.status = status;
+            job.changedTasks = changed;
+            job.error = error;
+            job.finishedAt = Instant.now();
+            running.remove(job.projectId);
+            Job next = pending.get(job.projectId);
+            if (next != null) {
+                dispatch(next);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static RecalculationJobDTO toDto(Job job) {
+        return RecalculationJobDTO.builder()
+            .id(job.id)
+            .projectId(job.projectId)
+            .status(job.status.name())
+            .requests(job.requests)
+            .changedTasks(job.changedTasks)
+            .error(job.error)
+            .submittedAt(format(job.submittedAt))
+            .startedAt(format(job.startedAt))
+            .finishedAt(format(job.finishedAt))
+            .build();
+    }
+
+    private static String format(Instant instant) {
+        return instant != null ? instant.toString() : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.exception.ConflictException;
+import com.example.projectservice.model.Task;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Historique récent des modifications de chaque tâche, champ par champ : pour chaque version,
+ * les anciennes valeurs des champs modifiés par la transition vers la version suivante.
+ * Il permet de fusionner une modification basée sur une version périmée avec les modifications
+ * concurrentes lorsqu'elles portent sur des champs différents. L'historique est en mémoire et borné :
+ * s'il manque une transition, la fusion est refusée (conflit) plutôt que devinée.
+ */
+@Service
+public class TaskChangeHistory {
+
+    public static final String NAME = "name";
+    public static final String DURATION = "duration";
+    public static final String START_DATE = "startDate";
+    public static final String DUE_DATE = "dueDate";
+    public static final String DONE = "done";
+    public static final String STATUS = "status";
+    public static final String PROGRESS = "progress";
+    public static final String ASSIGNEE_IDS = "assigneeIds";
+    public static final String PREDECESSOR_IDS = "predecessorIds";
+
+    private record Key(Long taskId, long version) {
+    }
+
+    private final Cache<Key, Map<String, Object>> transitions = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterWrite(Duration.ofHours(1))
+        .build();
+
+    /**
+     * État d'une tâche à une version donnée.
+     */
+    public record State(Long taskId, long version, Map<String, Object> fields) {
+
+        public static State of(Task task) {
+            return new State(task.getId(), task.getVersion(),
+                TaskChangeHistory.fields(task, task.getPredecessors().stream().map(Task::getId).toList()));
+        }
+    }
+
+    /**
+     * Valeurs des champs fusionnables d'une tâche ; les listes sont triées pour être comparées.
+     */
+    public static Map<String, Object> fields(Task task, List<Long> predecessorIds) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put(NAME, task.getName());
+        fields.put(DURATION, task.getDuration());
+        fields.put(START_DATE, task.getStartDate());
+        fields.put(DUE_DATE, task.getDueDate());
+        fields.put(DONE, task.isDone());
+        fields.put(STATUS, task.getStatus());
+        fields.put(PROGRESS, task.getProgress());
+        fields.put(ASSIGNEE_IDS, sorted(task.getAssigneeIds()));
+        fields.put(PREDECESSOR_IDS, sorted(predecessorIds));
+        return fields;
+    }
+
+    /**
+     * Applique les champs simples et les assignés ; les prédécesseurs sont résolus par l'appelant.
+     */
+    public static void applyTo(Map<String, Object> fields, Task task) {
+        task.setName((String) fields.get(NAME));
+        task.setDuration((Integer) fields.get(DURATION));
+        task.setStartDate((LocalDate) fields.get(START_DATE));
+        task.setDueDate((LocalDate) fields.get(DUE_DATE));
+        task.setDone((Boolean) fields.get(DONE));
+        task.setStatus((Task.TaskStatus) fields.get(STATUS));
+        task.setProgress((Integer) fields.get(PROGRESS));
+        @SuppressWarnings("unchecked")
+        List<Long> assigneeIds = (List<Long>) fields.get(ASSIGNEE_IDS);
+        // Remplacer la collection réécrirait toutes les lignes task_assignees
+        if (!sorted(task.getAssigneeIds()).equals(sorted(assigneeIds))) {
+            task.setAssigneeIds(new ArrayList<>(assigneeIds));
+        }
+    }
+
+    /**
+     * Enregistre la transition before.version -> version suivante, une fois la transaction validée.
+     */
+    public void record(State before, State after) {
+        Map<String, Object> changes = new HashMap<>();
+        before.fields().forEach((field, value) -> {
+            if (!Objects.equals(value, after.fields().get(field))) {
+                changes.put(field, value);
+            }
+        });
+        record(before.taskId(), before.version(), changes);
+    }
+
+    /**
+     * Transition due au recalcul des dates (seules les dates changent).
+     */
+    public void recordDates(Long taskId, long version, LocalDate previousStart, LocalDate previousDue) {
+        Map<String, Object> changes = new HashMap<>();
+        changes.put(START_DATE, previousStart);
+        changes.put(DUE_DATE, previousDue);
+        record(taskId, version, changes);
+    }
+
+    /**
+     * Rejoue la modification demandée (basée sur baseVersion) par-dessus l'état courant :
+     * les champs modifiés entre-temps par d'autres et laissés intacts par la demande gardent leur
+     * valeur courante. Conflit si un même champ a été modifié des deux côtés avec des valeurs différentes.
+     */
+    public Map<String, Object> rebase(State current, long baseVersion, Map<String, Object> requested) {
+        if (baseVersion > current.version()) {
+            throw new ConflictException("Task", current.taskId(), Set.of(), "Unknown task version " + baseVersion);
+        }
+
+        // Valeur à la version de base de chaque champ modifié depuis
+        Map<String, Object> baseValues = new HashMap<>();
+        for (long version = baseVersion; version < current.version(); version++) {
+            Map<String, Object> changes = transitions.getIfPresent(new Key(current.taskId(), version));
+            if (changes == null) {
+                // Historique incomplet (expiré, autre instance, import) : champs modifiés inconnus
+                throw new ConflictException("Task", current.taskId(), Set.of(), "Task was modified concurrently");
+            }
+            changes.forEach((field, value) -> {
+                if (!baseValues.containsKey(field)) {
+                    baseValues.put(field, value);
+                }
+            });
+        }
+
+        Map<String, Object> merged = new LinkedHashMap<>(requested);
+        Set<String> conflicts = new TreeSet<>();
+        baseValues.forEach((field, baseValue) -> {
+            Object mine = requested.get(field);
+            Object theirs = current.fields().get(field);
+            if (Objects.equals(mine, baseValue)) {
+                merged.put(field, theirs);
+            } else if (!Objects.equals(mine, theirs)) {
+                conflicts.add(field);
+            }
+        });
+        if (!conflicts.isEmpty()) {
+            throw new ConflictException("Task", current.taskId(), conflicts, "Task was modified concurrently");
+        }
+        return merged;
+    }
+
+    private void record(Long taskId, long version, Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Runnable put = () -> transitions.asMap().merge(new Key(taskId, version), changes, (existing, added) -> {
+            // Plusieurs écritures sur la même version : la première valeur connue est la bonne
+            Map<String, Object> combined = new HashMap<>(added);
+            combined.putAll(existing);
+            return combined;
+        });
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put.run();
+            }
+        });
+    }
+
+    public static List<Long> sorted(List<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        List<Long> sorted = new ArrayList<>(ids);
+        Collections.sort(sorted);
+        return sorted;
+    }
+}
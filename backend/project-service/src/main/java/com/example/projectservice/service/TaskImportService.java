@@ -0,0 +1,311 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.dto.TaskImportDTO;
+import com.example.projectservice.dto.TaskImportResultDTO;
+import com.example.projectservice.exception.InvalidImportException;
+import com.example.projectservice.mapper.TaskMapper;
+import com.example.projectservice.repository.ProjectRepository;
+import com.example.projectservice.repository.TaskRepository;
+import com.example.projectservice.scheduling.TaskEdge;
+import com.example.projectservice.scheduling.TaskGraph;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Types;
+import java.util.*;
+
+/**
+ * Import en masse de tâches et de leurs dépendances.
+ * Le corps (tableau JSON ou NDJSON) est lu en flux et traité par tranches de BATCH_SIZE
+ * enregistrements : validation (IDs, clés, projet) puis écriture par lots JDBC. Les dépendances
+ * sont écrites à la fin, après vérification de l'absence de cycle sur l'ensemble du lot, puis les
+ * dates sont recalculées une seule fois. Un enregistrement invalide annule tout l'import (400).
+ */
+@Service
+public class TaskImportService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskSchedulingService schedulingService;
+    private final DependencyIndexService dependencyIndex;
+    private final ProjectChangeService projectChanges;
+    private final ProjectEventService projectEvents;
+    private final TaskMapper taskMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectReader reader;
+
+    public TaskImportService(ProjectRepository projectRepository, TaskRepository taskRepository,
+                             TaskSchedulingService schedulingService, DependencyIndexService dependencyIndex,
+                             ProjectChangeService projectChanges, ProjectEventService projectEvents,
+                             TaskMapper taskMapper, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.schedulingService = schedulingService;
+        this.dependencyIndex = dependencyIndex;
+        this.projectChanges = projectChanges;
+        this.projectEvents = projectEvents;
+        this.taskMapper = taskMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.reader = objectMapper.readerFor(TaskImportDTO.class);
+    }
+
+    @Transactional
+    public TaskImportResultDTO importTasks(Long projectId, InputStream body) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+        Batch batch = new Batch(projectId, new HashSet<>(taskRepository.findIdsByProjectId(projectId)));
+
+        // Un tableau JSON racine est parcouru élément par élément ; NDJSON est lu valeur par valeur.
+        // Les enregistrements sont écrits par tranches : seuls les IDs et les arcs restent en mémoire
+        List<TaskImportDTO> chunk = new ArrayList<>(BATCH_SIZE);
+        try (MappingIterator<TaskImportDTO> iterator = reader.readValues(body)) {
+            while (iterator.hasNextValue()) {
+                chunk.add(iterator.nextValue());
+                if (chunk.size() == BATCH_SIZE) {
+                    importChunk(batch, chunk);
+                    chunk.clear();
+                }
+            }
+            importChunk(batch, chunk);
+        } catch (IOException e) {
+            throw new InvalidImportException(batch.count + chunk.size() + 1, "Invalid task import payload: " + e.getMessage());
+        }
+
+        // Les clés peuvent désigner une tâche plus loin dans le lot : résolues une fois tout lu
+        for (KeyReference reference : batch.keyReferences) {
+            Long predecessorId = batch.idsByKey.get(reference.key());
+            if (predecessorId == null) {
+                throw new InvalidImportException(reference.record(), "Unknown predecessor key: " + reference.key());
+            }
+            batch.newEdges.add(new TaskEdge(reference.taskId(), predecessorId));
+        }
+
+        // Vérifier l'absence de cycle une seule fois, sur le graphe complet après import ; les anciens
+        // prédécesseurs des tâches remplacées sont déjà supprimés, et un cycle annule toute la transaction
+        List<TaskEdge> edges = new ArrayList<>(batch.newEdges);
+        for (TaskEdge edge : taskRepository.findEdgesByProjectId(projectId)) {
+            if (!batch.replaced.contains(edge.taskId())) {
+                edges.add(edge);
+            }
+        }
+        long[] allIds = new long[batch.projectTaskIds.size() + batch.created];
+        int n = 0;
+        for (Long id : batch.projectTaskIds) {
+            allIds[n++] = id;
+        }
+        for (Long id : batch.createdIds) {
+            allIds[n++] = id;
+        }
+        if (!TaskGraph.build(allIds, edges).isAcyclic()) {
+            throw new InvalidImportException(null, "Imported dependencies would create a cycle");
+        }
+        insertDependencies(batch.newEdges);
+
+        schedulingService.recalculateProject(projectId);
+        dependencyIndex.projectChanged(projectId);
+        projectChanges.tasksChanged(projectId, batch.taskIds);
+        projectEvents.projectUpdated(projectId);
+
+        return TaskImportResultDTO.builder()
+            .created(batch.created)
+            .updated(batch.count - batch.created)
+            .dependencies(batch.newEdges.size())
+            .taskIds(batch.idsByKey)
+            .build();
+    }
+
+    /**
+     * Valide une tranche d'enregistrements, attribue les IDs et écrit tâches et assignés ;
+     * les dépendances sont seulement collectées.
+     */
+    private void importChunk(Batch batch, List<TaskImportDTO> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        // Attribuer un ID à chaque tâche : ID existant pour une mise à jour, séquence sinon
+        long[] ids = new long[records.size()];
+        int created = 0;
+        for (int i = 0; i < records.size(); i++) {
+            Long id = records.get(i).getId();
+            int record = batch.count + i + 1;
+            if (id == null) {
+                created++;
+            } else if (!batch.projectTaskIds.contains(id)) {
+                throw new InvalidImportException(record, "Task not found: " + id);
+            } else if (!batch.updatedIds.add(id)) {
+                throw new InvalidImportException(record, "Duplicate task id: " + id);
+            } else {
+                ids[i] = id;
+            }
+        }
+        Iterator<Long> newIds = allocateTaskIds(created).iterator();
+        for (int i = 0; i < records.size(); i++) {
+            TaskImportDTO record = records.get(i);
+            if (record.getId() == null) {
+                ids[i] = newIds.next();
+                batch.createdIds.add(ids[i]);
+            }
+            if (record.getKey() != null && batch.idsByKey.putIfAbsent(record.getKey(), ids[i]) != null) {
+                throw new InvalidImportException(batch.count + i + 1, "Duplicate task key: " + record.getKey());
+            }
+            batch.taskIds.add(ids[i]);
+        }
+
+        // Résoudre les dépendances : elles remplacent celles des tâches qui en déclarent
+        for (int i = 0; i < records.size(); i++) {
+            TaskImportDTO record = records.get(i);
+            if (record.getPredecessorKeys() == null && record.getPredecessorIds() == null) {
+                continue;
+            }
+            batch.replaced.add(ids[i]);
+            if (record.getPredecessorKeys() != null) {
+                for (String key : record.getPredecessorKeys()) {
+                    batch.keyReferences.add(new KeyReference(ids[i], key, batch.count + i + 1));
+                }
+            }
+            if (record.getPredecessorIds() != null) {
+                for (Long predecessorId : record.getPredecessorIds()) {
+                    if (!batch.projectTaskIds.contains(predecessorId)) {
+                        throw new InvalidImportException(batch.count + i + 1, "Predecessor task not found: " + predecessorId);
+                    }
+                    batch.newEdges.add(new TaskEdge(ids[i], predecessorId));
+                }
+            }
+        }
+
+        writeTasks(batch.projectId, records, ids);
+        clearDependencies(records, ids);
+        writeAssignees(records, ids);
+        batch.count += records.size();
+        batch.created += created;
+    }
+
+    private List<Long> allocateTaskIds(int count) {
+        if (count == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+            "select nextval(pg_get_serial_sequence('task', 'id')) from generate_series(1, ?)", Long.class, count);
+    }
+
+    private void writeTasks(Long projectId, List<TaskImportDTO> records, long[] ids) {
+        List<Integer> inserts = new ArrayList<>();
+        List<Integer> updates = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            (records.get(i).getId() == null ? inserts : updates).add(i);
+        }
+
+        jdbcTemplate.batchUpdate(
+            "insert into task (id, project_id, name, duration, start_date, due_date, done, status, progress) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            inserts, BATCH_SIZE, (ps, i) -> {
+                TaskImportDTO record = records.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setLong(2, projectId);
+                ps.setString(3, record.getName());
+                ps.setInt(4, record.getDuration());
+                ps.setObject(5, taskMapper.stringToDate(record.getStartDate()), Types.DATE);
+                ps.setObject(6, taskMapper.stringToDate(record.getDueDate()), Types.DATE);
+                ps.setBoolean(7, record.isDone());
+                ps.setString(8, taskMapper.stringToStatus(record.getStatus()).name());
+                ps.setInt(9, record.getProgress());
+            });
+
+        jdbcTemplate.batchUpdate(
+            "update task set name = ?, duration = ?, start_date = ?, due_date = ?, done = ?, status = ?, progress = ?, " +
+            "version = version + 1 " +
+            "where id = ? and project_id = ?",
+            updates, BATCH_SIZE, (ps, i) -> {
+                TaskImportDTO record = records.get(i);
+                ps.setString(1, record.getName());
+                ps.setInt(2, record.getDuration());
+                ps.setObject(3, taskMapper.stringToDate(record.getStartDate()), Types.DATE);
+                ps.setObject(4, taskMapper.stringToDate(record.getDueDate()), Types.DATE);
+                ps.setBoolean(5, record.isDone());
+                ps.setString(6, taskMapper.stringToStatus(record.getStatus()).name());
+                ps.setInt(7, record.getProgress());
+                ps.setLong(8, ids[i]);
+                ps.setLong(9, projectId);
+            });
+    }
+
+    private void clearDependencies(List<TaskImportDTO> records, long[] ids) {
+        List<Long> cleared = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            TaskImportDTO record = records.get(i);
+            if (record.getId() != null && (record.getPredecessorKeys() != null || record.getPredecessorIds() != null)) {
+                cleared.add(ids[i]);
+            }
+        }
+        jdbcTemplate.batchUpdate("delete from task_dependencies where task_id = ?",
+            cleared, BATCH_SIZE, (ps, taskId) -> ps.setLong(1, taskId));
+    }
+
+    private void insertDependencies(Collection<TaskEdge> edges) {
+        jdbcTemplate.batchUpdate("insert into task_dependencies (task_id, predecessor_id) values (?, ?)",
+            edges, BATCH_SIZE, (ps, edge) -> {
+                ps.setLong(1, edge.taskId());
+                ps.setLong(2, edge.predecessorId());
+            });
+    }
+
+    private void writeAssignees(List<TaskImportDTO> records, long[] ids) {
+        List<Long> cleared = new ArrayList<>();
+        List<long[]> rows = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            TaskImportDTO record = records.get(i);
+            if (record.getAssigneeIds() == null) {
+                continue;
+            }
+            if (record.getId() != null) {
+                cleared.add(ids[i]);
+            }
+            for (Long userId : record.getAssigneeIds()) {
+                rows.add(new long[] {ids[i], userId});
+            }
+        }
+        jdbcTemplate.batchUpdate("delete from task_assignees where task_id = ?",
+            cleared, BATCH_SIZE, (ps, taskId) -> ps.setLong(1, taskId));
+
+        jdbcTemplate.batchUpdate("insert into task_assignees (task_id, user_id) values (?, ?)",
+            rows, BATCH_SIZE, (ps, row) -> {
+                ps.setLong(1, row[0]);
+                ps.setLong(2, row[1]);
+            });
+    }
+
+    /**
+     * État d'un import en cours : ce qui doit survivre aux tranches déjà écrites.
+     */
+    private static final class Batch {
+        private final Long projectId;
+        private final Set<Long> projectTaskIds;
+        private final Set<Long> updatedIds = new HashSet<>();
+        private final List<Long> createdIds = new ArrayList<>();
+        private final List<Long> taskIds = new ArrayList<>();
+        private final Map<String, Long> idsByKey = new LinkedHashMap<>();
+        private final Set<Long> replaced = new HashSet<>();
+        private final Set<TaskEdge> newEdges = new LinkedHashSet<>();
+        private final List<KeyReference> keyReferences = new ArrayList<>();
+        private int count;
+        private int created;
+
+        private Batch(Long projectId, Set<Long> projectTaskIds) {
+            this.projectId = projectId;
+            this.projectTaskIds = projectTaskIds;
+        }
+    }
+
+    // Prédécesseur désigné par clé, résolu après lecture de tout le lot
+    private record KeyReference(long taskId, String key, int record) {
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.dto.CriticalPathDTO;
+import com.example.projectservice.dto.TaskDatesDTO;
+import com.example.projectservice.dto.TaskSlackDTO;
+import com.example.projectservice.model.Project;
+import com.example.projectservice.model.Task;
+import com.example.projectservice.repository.ProjectRepository;
+import com.example.projectservice.repository.TaskRepository;
+import com.example.projectservice.scheduling.CriticalPathAnalysis;
+import com.example.projectservice.scheduling.TaskEdge;
+import com.example.projectservice.scheduling.TaskGraph;
+import com.example.projectservice.scheduling.TaskSchedule;
+import com.example.projectservice.scheduling.TaskScheduleRow;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Moteur de planification : charge les tâches et les dépendances d'un projet en deux requêtes,
+ * calcule les dates en mémoire puis réécrit uniquement les tâches modifiées.
+ */
+@Service
+public class TaskSchedulingService {
+
+    // Taille des lots des clauses IN (fenêtre de propagation, rechargement des tâches modifiées)
+    private static final int IN_BATCH_SIZE = 1000;
+    // Nombre maximal de niveaux lus en une fois vers l'aval lors d'une propagation
+    private static final int MAX_EXPANSION_DEPTH = 64;
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectChangeService projectChanges;
+    private final ProjectEventService projectEvents;
+    private final TaskChangeHistory changeHistory;
+    private final MeterRegistry meterRegistry;
+
+    public TaskSchedulingService(ProjectRepository projectRepository, TaskRepository taskRepository,
+                                 ProjectChangeService projectChanges, ProjectEventService projectEvents,
+                                 TaskChangeHistory changeHistory, MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.projectChanges = projectChanges;
+        this.projectEvents = projectEvents;
+        this.changeHistory = changeHistory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Recalcule les dates de toutes les tâches du projet.
+     * Retourne le nombre de tâches dont les dates ont changé.
+     */
+    @Transactional
+    public int recalculateProject(Long projectId) {
+        TaskSchedule schedule = loadSchedule(projectId);
+        BitSet changed = recordRecalculation("full", schedule::computeAll, schedule);
+        writeBack(projectId, schedule, changed);
+        return changed.cardinality();
+    }
+
+    /**
+     * Propage les dates à partir d'une tâche dont les prédécesseurs ou la durée ont changé.
+     * L'aval est chargé par fronts successifs : seuls les successeurs des tâches dont les dates ont
+     * changé sont lus, puis les dates sont recalculées en ordre topologique sur la partie chargée.
+     * Une modification sans effet ne lit que la tâche, ses prédécesseurs et ses successeurs directs,
+     * quelle que soit la longueur de la chaîne en aval. Pour éviter un aller-retour par niveau quand
+     * tout l'aval bouge, chaque front lit deux fois plus de niveaux que le précédent (au plus
+     * MAX_EXPANSION_DEPTH) : au plus le double des niveaux réellement affectés est lu.
+     * Retourne le nombre de tâches dont les dates ont changé.
+     */
+    @Transactional
+    public int propagateFrom(Long projectId, Long taskId) {
+        Project project = findProject(projectId);
+        taskRepository.flush();
+
+        DownstreamWindow window = new DownstreamWindow(projectId, project.getStartDate());
+        window.open(List.of(taskId));
+        if (!window.contains(taskId)) {
+            throw new RuntimeException("Task not found");
+        }
+
+        long computeNanos = 0;
+        int depth = 1;
+        while (true) {
+            TaskSchedule schedule = window.schedule();
+            int source = schedule.graph().indexOf(taskId);
+            long begin = System.nanoTime();
+            BitSet changed = schedule.propagateFrom(source);
+            computeNanos += System.nanoTime() - begin;
+
+            List<Long> frontier = window.frontier(schedule, changed, source);
+            if (frontier.isEmpty()) {
+                recalculationTimer("propagate").record(computeNanos, TimeUnit.NANOSECONDS);
+                recordTaskCounts("propagate", schedule, changed);
+                writeBack(projectId, schedule, changed);
+                return changed.cardinality();
+            }
+            window.expand(frontier, depth);
+            depth = Math.min(depth * 2, MAX_EXPANSION_DEPTH);
+        }
+    }
+
+    /**
+     * Analyse du chemin critique : dates au plus tôt / au plus tard et marges de chaque tâche.
+     * Les dates sont ancrées sur le début du projet, à défaut sur la première date de début connue.
+     */
+    @Transactional(readOnly = true)
+    public CriticalPathDTO analyzeCriticalPath(Long projectId) {
+        Project project = findProject(projectId);
+        List<TaskScheduleRow> rows = taskRepository.findScheduleRowsByProjectId(projectId);
+        TaskGraph graph = loadGraph(projectId, rows);
+
+        int[] duration = new int[graph.size()];
+        LocalDate anchor = project.getStartDate();
+        for (TaskScheduleRow row : rows) {
+            duration[graph.indexOf(row.id())] = row.duration();
+            if (project.getStartDate() == null && row.startDate() != null
+                    && (anchor == null || row.startDate().isBefore(anchor))) {
+                anchor = row.startDate();
+            }
+        }
+        if (anchor == null) {
+            anchor = LocalDate.now();
+        }
+
+        CriticalPathAnalysis analysis = CriticalPathAnalysis.run(graph, duration);
+
+        List<Long> criticalTaskIds = new ArrayList<>();
+        for (int node : graph.topologicalOrderView()) {
+            if (analysis.isCritical(node)) {
+                criticalTaskIds.add(graph.id(node));
+            }
+        }
+
+        List<TaskSlackDTO> tasks = new ArrayList<>(rows.size());
+        for (TaskScheduleRow row : rows) {
+            int node = graph.indexOf(row.id());
+            tasks.add(TaskSlackDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .duration(row.duration())
+                .earliestStart(formatStart(anchor, analysis.earlyStart(node)))
+                .earliestFinish(formatFinish(anchor, analysis.earlyStart(node), analysis.earlyFinish(node)))
+                .latestStart(formatStart(anchor, analysis.lateStart(node)))
+                .latestFinish(formatFinish(anchor, analysis.lateStart(node), analysis.lateFinish(node)))
+                .totalFloat(analysis.totalFloat(node))
+                .freeFloat(analysis.freeFloat(node))
+                .critical(analysis.isCritical(node))
+                .build());
+        }
+
+        return CriticalPathDTO.builder()
+            .projectId(projectId)
+            .startDate(formatStart(anchor, 0))
+            .endDate(formatFinish(anchor, 0, analysis.projectDuration()))
+            .duration(analysis.projectDuration())
+            .criticalTaskIds(criticalTaskIds)
+            .tasks(tasks)
+            .build();
+    }
+
+    /**
+     * Mesure le calcul en mémoire et compte les tâches visitées et celles à sauvegarder.
+     */
+    private BitSet recordRecalculation(String mode, Supplier<BitSet> computation,
+                                       TaskSchedule schedule) {
+        BitSet changed = recalculationTimer(mode).record(computation);
+        recordTaskCounts(mode, schedule, changed);
+        return changed;
+    }
+
+    private Timer recalculationTimer(String mode) {
+        return Timer.builder("project.recalculation")
+            .description("In-memory date computation")
+            .tag("mode", mode)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private void recordTaskCounts(String mode, TaskSchedule schedule, BitSet changed) {
+        DistributionSummary.builder("project.recalculation.tasks.loaded")
+            .description("Tasks loaded per recalculation")
+            .tag("mode", mode)
+            .register(meterRegistry)
+            .record(schedule.graph().size());
+        DistributionSummary.builder("project.recalculation.tasks.visited")
+            .description("Tasks recomputed per recalculation")
+            .tag("mode", mode)
+            .register(meterRegistry)
+            .record(schedule.visitedCount());
+        DistributionSummary.builder("project.recalculation.tasks.saved")
+            .description("Tasks whose dates changed and were saved per recalculation")
+            .tag("mode", mode)
+            .register(meterRegistry)
+            .record(changed.cardinality());
+    }
+
+    private TaskSchedule loadSchedule(Long projectId) {
+        Project project = findProject(projectId);
+
+        // Les modifications en attente (prédécesseurs, dates saisies) doivent être visibles des requêtes
+        taskRepository.flush();
+
+        List<TaskScheduleRow> rows = taskRepository.findScheduleRowsByProjectId(projectId);
+        return TaskSchedule.of(loadGraph(projectId, rows), rows, project.getStartDate());
+    }
+
+    private Project findProject(Long projectId) {
+        return projectRepository.findById(projectId)
+            .orElseThrow(() -> new RuntimeException("Project not found"));
+    }
+
+    private TaskGraph loadGraph(Long projectId, List<TaskScheduleRow> rows) {
+        return buildGraph(rows, taskRepository.findEdgesByProjectId(projectId));
+    }
+
+    private static TaskGraph buildGraph(List<TaskScheduleRow> rows, List<TaskEdge> edges) {
+        long[] ids = new long[rows.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = rows.get(i).id();
+        }
+
+        TaskGraph graph = TaskGraph.build(ids, edges);
+        if (!graph.isAcyclic()) {
+            throw new RuntimeException("Task dependencies contain a cycle");
+        }
+        return graph;
+    }
+
+    private static String formatDate(LocalDate date) {
+        return date != null ? date.format(DateTimeFormatter.ISO_DATE) : null;
+    }
+
+    private static String formatStart(LocalDate anchor, int offset) {
+        return anchor.plusDays(offset).format(DateTimeFormatter.ISO_DATE);
+    }
+
+    // Date de fin inclusive, comme dueDate (début + durée - 1) ; un jalon finit le jour de son début
+    private static String formatFinish(LocalDate anchor, int start, int finish) {
+        return anchor.plusDays(Math.max(start, finish - 1)).format(DateTimeFormatter.ISO_DATE);
+    }
+
+    private void writeBack(Long projectId, TaskSchedule schedule, BitSet changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        TaskGraph graph = schedule.graph();
+        List<Long> ids = new ArrayList<>(changed.cardinality());
+        for (int node = changed.nextSetBit(0); node >= 0; node = changed.nextSetBit(node + 1)) {
+            ids.add(graph.id(node));
+        }
+
+        for (int from = 0; from < ids.size(); from += IN_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + IN_BATCH_SIZE, ids.size()));
+            List<Task> tasks = taskRepository.findAllById(batch);
+            for (Task task : tasks) {
+                int node = graph.indexOf(task.getId());
+                changeHistory.recordDates(task.getId(), task.getVersion(), task.getStartDate(), task.getDueDate());
+                task.setStartDate(schedule.startDate(node));
+                task.setDueDate(schedule.dueDate(node));
+            }
+            taskRepository.saveAll(tasks);
+        }
+        projectChanges.tasksChanged(projectId, ids);
+
+        // L'événement ne porte que les tâches recalculées et leurs nouvelles dates
+        if (projectEvents.hasSubscribers(projectId)) {
+            List<TaskDatesDTO> dates = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                int node = graph.indexOf(id);
+                dates.add(TaskDatesDTO.builder()
+                    .id(id)
+                    .startDate(formatDate(schedule.startDate(node)))
+                    .dueDate(formatDate(schedule.dueDate(node)))
+                    .build());
+            }
+            projectEvents.datesRecalculated(projectId, dates);
+        }
+    }
+
+    private static Long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static <T> List<T> inBatches(Collection<Long> ids, Function<List<Long>, List<T>> query) {
+        List<Long> all = List.copyOf(ids);
+        List<T> results = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += IN_BATCH_SIZE) {
+            results.addAll(query.apply(all.subList(from, Math.min(from + IN_BATCH_SIZE, all.size()))));
+        }
+        return results;
+    }
+
+    /**
+     * Partie du projet chargée pour une propagation. Les tâches ouvertes (la source et les successeurs
+     * atteints) ont tous leurs arcs entrants ; leurs autres prédécesseurs sont lus avec leurs dates
+     * stockées, sans arc entrant : ils ne sont jamais recalculés.
+     */
+    private final class DownstreamWindow {
+        private final Long projectId;
+        private final LocalDate projectStart;
+        private final Map<Long, TaskScheduleRow> rows = new LinkedHashMap<>();
+        private final List<TaskEdge> edges = new ArrayList<>();
+        private final Set<Long> open = new HashSet<>();
+        // Tâches ouvertes dont les successeurs directs sont déjà ouverts
+        private final Set<Long> expanded = new HashSet<>();
+
+        private DownstreamWindow(Long projectId, LocalDate projectStart) {
+            this.projectId = projectId;
+            this.projectStart = projectStart;
+        }
+
+        boolean contains(Long taskId) {
+            return rows.containsKey(taskId);
+        }
+
+        void open(Collection<Long> ids) {
+            List<Long> added = new ArrayList<>();
+            for (Long id : ids) {
+                if (open.add(id)) {
+                    added.add(id);
+                }
+            }
+            if (added.isEmpty()) {
+                return;
+            }
+            List<TaskEdge> incoming = inBatches(added, taskRepository::findEdgesByTaskIds);
+            edges.addAll(incoming);
+
+            Set<Long> missing = new LinkedHashSet<>();
+            for (Long id : added) {
+                if (!rows.containsKey(id)) {
+                    missing.add(id);
+                }
+            }
+            for (TaskEdge edge : incoming) {
+                if (!rows.containsKey(edge.predecessorId())) {
+                    missing.add(edge.predecessorId());
+                }
+            }
+            for (TaskScheduleRow row : inBatches(missing, batch -> taskRepository.findScheduleRowsByIds(projectId, batch))) {
+                rows.put(row.id(), row);
+            }
+        }
+
+        /**
+         * Ouvre les tâches situées à au plus depth arcs en aval du front.
+         */
+        void expand(Collection<Long> frontier, int depth) {
+            List<Long> reached = new ArrayList<>();
+            for (Object[] row : inBatches(frontier, batch -> taskRepository.findDownstreamDepths(projectId, batch, depth))) {
+                Long id = toLong(row[0]);
+                reached.add(id);
+                if (((Number) row[1]).intValue() < depth) {
+                    expanded.add(id);
+                }
+            }
+            open(reached);
+        }
+
+        TaskSchedule schedule() {
+            List<TaskScheduleRow> loaded = List.copyOf(rows.values());
+            return TaskSchedule.of(buildGraph(loaded, edges), loaded, projectStart);
+        }
+
+        /**
+         * Tâches ouvertes modifiées (et la source) dont les successeurs ne sont pas encore chargés.
+         */
+        List<Long> frontier(TaskSchedule schedule, BitSet changed, int source) {
+            BitSet candidates = (BitSet) changed.clone();
+            candidates.set(source);
+            List<Long> frontier = new ArrayList<>();
+            for (int node = candidates.nextSetBit(0); node >= 0; node = candidates.nextSetBit(node + 1)) {
+                Long id = schedule.graph().id(node);
+                if (open.contains(id) && !expanded.contains(id)) {
+                    frontier.add(id);
+                }
+            }
+            return frontier;
+        }
+    }
+}
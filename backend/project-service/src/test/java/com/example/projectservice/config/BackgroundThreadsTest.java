@@ -0,0 +1,46 @@
+package com.example.projectservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BackgroundThreadsTest {
+
+    @Test
+    void platformThreadsAreNamedDaemonsByDefault() {
+        BackgroundThreads threads = new BackgroundThreads(new MockEnvironment());
+
+        ThreadFactory factory = threads.factory("worker-");
+        Thread first = factory.newThread(() -> { });
+        Thread second = factory.newThread(() -> { });
+
+        assertThat(threads.isVirtual()).isFalse();
+        assertThat(first.isDaemon()).isTrue();
+        assertThat(first.getName()).isEqualTo("worker-1");
+        assertThat(second.getName()).isEqualTo("worker-2");
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void theVirtualThreadsPropertyIsIgnoredBeforeJava21() {
+        BackgroundThreads threads = new BackgroundThreads(
+            new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+
+        assertThat(threads.isVirtual()).isFalse();
+        assertThat(threads.factory("worker-").newThread(() -> { }).isDaemon()).isTrue();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void theVirtualThreadsPropertyYieldsVirtualThreadsOnJava21() {
+        BackgroundThreads threads = new BackgroundThreads(
+            new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+
+        assertThat(threads.isVirtual()).isTrue();
+    }
+}
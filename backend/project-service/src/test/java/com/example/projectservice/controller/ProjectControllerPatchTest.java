@@ -0,0 +1,118 @@
+package com.example.projectservice.controller;
+
+import com.example.projectservice.dto.ProjectDTO;
+import com.example.projectservice.mapper.MergePatchMapper;
+import com.example.projectservice.mapper.ProjectMapper;
+import com.example.projectservice.mapper.TaskMapper;
+import com.example.projectservice.model.Project;
+import com.example.projectservice.service.ProjectEventService;
+import com.example.projectservice.service.ProjectReadService;
+import com.example.projectservice.service.ProjectService;
+import com.example.projectservice.service.RecalculationJobService;
+import com.example.projectservice.service.TaskImportService;
+import com.example.projectservice.service.TaskSchedulingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Un merge patch invalide (champ inconnu, valeur du mauvais type) est une erreur du client : 400.
+ */
+@WebMvcTest(ProjectController.class)
+@Import(MergePatchMapper.class)
+class ProjectControllerPatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ProjectService service;
+    @MockitoBean
+    private ProjectReadService readService;
+    @MockitoBean
+    private TaskSchedulingService schedulingService;
+    @MockitoBean
+    private TaskImportService importService;
+    @MockitoBean
+    private ProjectEventService eventService;
+    @MockitoBean
+    private RecalculationJobService recalculationJobs;
+    @MockitoBean
+    private ProjectMapper projectMapper;
+    @MockitoBean
+    private TaskMapper taskMapper;
+
+    @Test
+    void anUnknownProjectFieldIsABadRequest() throws Exception {
+        patchProject("{\"owner\":\"alice\"}")
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.field").value("owner"))
+            .andExpect(jsonPath("$.message").value("Unsupported project field: owner"));
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void anUnknownTaskFieldIsABadRequest() throws Exception {
+        patchTask("{\"priority\":1}")
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.field").value("priority"));
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void aWronglyTypedValueIsABadRequest() throws Exception {
+        patchTask("{\"duration\":\"three\"}")
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.field").value("duration"))
+            .andExpect(jsonPath("$.message").value("Invalid value for field: duration"));
+        patchProject("{\"startDate\":\"tomorrow\"}")
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.field").value("startDate"));
+        patchTask("{\"version\":\"abc\",\"name\":\"Dev\"}")
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.field").value("version"));
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void aDocumentThatIsNotAnObjectIsABadRequest() throws Exception {
+        patchProject("[1, 2]")
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.field").doesNotExist());
+    }
+
+    @Test
+    void aValidPatchReachesTheService() throws Exception {
+        Project project = Project.builder().id(1L).name("Renamed").build();
+        when(service.patchProject(eq(1L), any(), eq(4L))).thenReturn(project);
+        when(projectMapper.toDtoWithoutTasks(project)).thenReturn(ProjectDTO.builder().id(1L).name("Renamed").build());
+
+        patchProject("{\"name\":\"Renamed\",\"version\":4}")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Renamed"));
+        verify(service).patchProject(1L, Map.of("name", "Renamed"), 4L);
+    }
+
+    private ResultActions patchProject(String body) throws Exception {
+        return mockMvc.perform(patch("/projects/1").contentType("application/merge-patch+json").content(body));
+    }
+
+    private ResultActions patchTask(String body) throws Exception {
+        return mockMvc.perform(patch("/projects/1/tasks/2").contentType("application/merge-patch+json").content(body));
+    }
+}
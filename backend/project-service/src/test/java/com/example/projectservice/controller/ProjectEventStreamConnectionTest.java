@@ -0,0 +1,79 @@
+package com.example.projectservice.controller;
+
+import com.example.projectservice.model.Project;
+import com.example.projectservice.repository.ProjectRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Un flux SSE ouvert ne doit pas garder de connexion JDBC : avec un pool de 2 connexions,
+ * 5 flux ouverts laissent les requêtes ordinaires passer.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.hikari.maximum-pool-size=2",
+    "spring.datasource.hikari.connection-timeout=2000"
+})
+@ActiveProfiles("test")
+class ProjectEventStreamConnectionTest {
+
+    private static final int STREAMS = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @Test
+    void openStreamsDoNotHoldDatabaseConnections() throws Exception {
+        Long projectId = projectRepository.save(Project.builder().name("SSE").build()).getId();
+
+        List<InputStream> streams = new ArrayList<>();
+        try {
+            for (int i = 0; i < STREAMS; i++) {
+                HttpResponse<InputStream> stream = client.sendAsync(
+                        request("/projects/" + projectId + "/events").header("Accept", "text/event-stream").build(),
+                        HttpResponse.BodyHandlers.ofInputStream())
+                    .get(10, TimeUnit.SECONDS);
+                assertThat(stream.statusCode()).isEqualTo(200);
+                streams.add(stream.body());
+            }
+
+            assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+
+            HttpResponse<String> response = client.send(request("/projects/" + projectId).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).contains("\"name\":\"SSE\"");
+        } finally {
+            for (InputStream stream : streams) {
+                stream.close();
+            }
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(10));
+    }
+}
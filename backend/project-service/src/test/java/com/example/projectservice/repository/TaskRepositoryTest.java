@@ -0,0 +1,99 @@
+package com.example.projectservice.repository;
+
+import com.example.projectservice.model.Project;
+import com.example.projectservice.model.Task;
+import com.example.projectservice.scheduling.TaskEdge;
+import com.example.projectservice.scheduling.TaskScheduleRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class TaskRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = entityManager.persist(Project.builder().name("P").startDate(LocalDate.of(2025, 1, 6)).build());
+    }
+
+    @Test
+    void downstreamDepthsStopAtTheRequestedDepthAndKeepTheShortestPath() {
+        // a -> b -> c -> d, a -> c ; f isolé
+        Task a = task("a");
+        Task b = task("b", a);
+        Task c = task("c", b, a);
+        Task d = task("d", c);
+        task("f");
+        entityManager.flush();
+
+        assertThat(depths(taskRepository.findDownstreamDepths(project.getId(), List.of(a.getId()), 1)))
+            .containsExactlyInAnyOrderEntriesOf(Map.of(a.getId(), 0, b.getId(), 1, c.getId(), 1));
+        assertThat(depths(taskRepository.findDownstreamDepths(project.getId(), List.of(a.getId()), 5)))
+            .containsExactlyInAnyOrderEntriesOf(Map.of(a.getId(), 0, b.getId(), 1, c.getId(), 1, d.getId(), 2));
+        assertThat(depths(taskRepository.findDownstreamDepths(project.getId(), List.of(b.getId(), d.getId()), 1)))
+            .containsExactlyInAnyOrderEntriesOf(Map.of(b.getId(), 0, c.getId(), 1, d.getId(), 0));
+    }
+
+    @Test
+    void edgesAndRowsAreLoadedForTheRequestedTasksOnly() {
+        // a -> b -> c ; e -> c
+        Task a = task("a");
+        Task b = task("b", a);
+        Task e = task("e");
+        Task c = task("c", b, e);
+        entityManager.flush();
+
+        assertThat(taskRepository.findEdgesByTaskIds(List.of(c.getId())))
+            .containsExactlyInAnyOrder(new TaskEdge(c.getId(), b.getId()), new TaskEdge(c.getId(), e.getId()));
+        assertThat(taskRepository.findEdgesByTaskIds(List.of(a.getId()))).isEmpty();
+        assertThat(taskRepository.findScheduleRowsByIds(project.getId(), List.of(a.getId(), c.getId())))
+            .extracting(TaskScheduleRow::id)
+            .containsExactlyInAnyOrder(a.getId(), c.getId());
+    }
+
+    @Test
+    void tasksOfAnotherProjectAreIgnored() {
+        Task a = task("a");
+        task("b", a);
+        entityManager.flush();
+
+        Project other = entityManager.persist(Project.builder().name("Q").build());
+        assertThat(taskRepository.findScheduleRowsByIds(other.getId(), List.of(a.getId()))).isEmpty();
+        assertThat(taskRepository.findDownstreamDepths(other.getId(), List.of(a.getId()), 3)).isEmpty();
+    }
+
+    private Task task(String name, Task... predecessors) {
+        Task task = Task.builder().name(name).duration(1).project(project).build();
+        task.getPredecessors().addAll(List.of(predecessors));
+        return entityManager.persist(task);
+    }
+
+    private static Map<Long, Integer> depths(List<Object[]> rows) {
+        Map<Long, Integer> depths = new HashMap<>();
+        for (Object[] row : rows) {
+            depths.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+        }
+        return depths;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.projectservice.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CriticalPathAnalysisTest {
+
+    private final Map<Long, Integer> durations = new LinkedHashMap<>();
+    private final List<TaskEdge> edges = new ArrayList<>();
+
+    @Test
+    void everyTaskOfAChainIsCritical() {
+        task(1, 2);
+        task(2, 3);
+        task(3, 1);
+        dependsOn(2, 1);
+        dependsOn(3, 2);
+
+        CriticalPathAnalysis analysis = run();
+
+        assertThat(analysis.projectDuration()).isEqualTo(6);
+        assertTimes(analysis, 1, 0, 2, 0, 2);
+        assertTimes(analysis, 2, 2, 5, 2, 5);
+        assertTimes(analysis, 3, 5, 6, 5, 6);
+        for (long id = 1; id <= 3; id++) {
+            assertThat(analysis.isCritical(node(analysis, id))).isTrue();
+            assertThat(analysis.totalFloat(node(analysis, id))).isZero();
+        }
+    }
+
+    @Test
+    void theShorterBranchOfADiamondHasSlack() {
+        // 1 -> 2 (1 j) -> 4, 1 -> 3 (4 j) -> 4
+        task(1, 2);
+        task(2, 1);
+        task(3, 4);
+        task(4, 1);
+        dependsOn(2, 1);
+        dependsOn(3, 1);
+        dependsOn(4, 2);
+        dependsOn(4, 3);
+
+        CriticalPathAnalysis analysis = run();
+
+        assertThat(analysis.projectDuration()).isEqualTo(7);
+        assertTimes(analysis, 2, 2, 3, 5, 6);
+        assertThat(analysis.totalFloat(node(analysis, 2))).isEqualTo(3);
+        assertThat(analysis.freeFloat(node(analysis, 2))).isEqualTo(3);
+        assertThat(analysis.isCritical(node(analysis, 2))).isFalse();
+
+        assertThat(analysis.isCritical(node(analysis, 1))).isTrue();
+        assertThat(analysis.isCritical(node(analysis, 3))).isTrue();
+        assertThat(analysis.isCritical(node(analysis, 4))).isTrue();
+        assertThat(analysis.freeFloat(node(analysis, 3))).isZero();
+    }
+
+    @Test
+    void freeFloatIsSmallerThanTotalFloatWhenTheSuccessorAlsoHasSlack() {
+        // 1 (1 j) -> 2 (1 j) -> 4 ; 3 (5 j) -> 4
+        task(1, 1);
+        task(2, 1);
+        task(3, 5);
+        task(4, 1);
+        dependsOn(2, 1);
+        dependsOn(4, 2);
+        dependsOn(4, 3);
+
+        CriticalPathAnalysis analysis = run();
+
+        assertThat(analysis.totalFloat(node(analysis, 1))).isEqualTo(3);
+        assertThat(analysis.freeFloat(node(analysis, 1))).isZero();
+        assertThat(analysis.totalFloat(node(analysis, 2))).isEqualTo(3);
+        assertThat(analysis.freeFloat(node(analysis, 2))).isEqualTo(3);
+    }
+
+    @Test
+    void zeroDurationMilestonesTakeNoTime() {
+        task(1, 3);
+        task(2, 0);
+        task(3, 2);
+        dependsOn(2, 1);
+        dependsOn(3, 2);
+
+        CriticalPathAnalysis analysis = run();
+
+        assertThat(analysis.projectDuration()).isEqualTo(5);
+        assertTimes(analysis, 2, 3, 3, 3, 3);
+        assertThat(analysis.isCritical(node(analysis, 2))).isTrue();
+        assertTimes(analysis, 3, 3, 5, 3, 5);
+    }
+
+    @Test
+    void negativeDurationsAreTreatedAsZero() {
+        task(1, -4);
+        task(2, 2);
+        dependsOn(2, 1);
+
+        CriticalPathAnalysis analysis = run();
+
+        assertTimes(analysis, 1, 0, 0, 0, 0);
+        assertThat(analysis.projectDuration()).isEqualTo(2);
+    }
+
+    @Test
+    void independentTasksFloatUpToTheProjectDuration() {
+        task(1, 5);
+        task(2, 2);
+
+        CriticalPathAnalysis analysis = run();
+
+        assertThat(analysis.isCritical(node(analysis, 1))).isTrue();
+        assertThat(analysis.totalFloat(node(analysis, 2))).isEqualTo(3);
+        assertThat(analysis.freeFloat(node(analysis, 2))).isEqualTo(3);
+    }
+
+    private void task(long id, int duration) {
+        durations.put(id, duration);
+    }
+
+    private void dependsOn(long task, long predecessor) {
+        edges.add(new TaskEdge(task, predecessor));
+    }
+
+    private CriticalPathAnalysis run() {
+        long[] ids = durations.keySet().stream().mapToLong(Long::longValue).toArray();
+        TaskGraph graph = TaskGraph.build(ids, edges);
+        int[] duration = new int[graph.size()];
+        durations.forEach((id, d) -> duration[graph.indexOf(id)] = d);
+        return CriticalPathAnalysis.run(graph, duration);
+    }
+
+    private static int node(CriticalPathAnalysis analysis, long id) {
+        return analysis.graph().indexOf(id);
+    }
+
+    private static void assertTimes(CriticalPathAnalysis analysis, long id,
+                                    int earlyStart, int earlyFinish, int lateStart, int lateFinish) {
+        int node = node(analysis, id);
+        assertThat(analysis.earlyStart(node)).as("earlyStart of %d", id).isEqualTo(earlyStart);
+        assertThat(analysis.earlyFinish(node)).as("earlyFinish of %d", id).isEqualTo(earlyFinish);
+        assertThat(analysis.lateStart(node)).as("lateStart of %d", id).isEqualTo(lateStart);
+        assertThat(analysis.lateFinish(node)).as("lateFinish of %d", id).isEqualTo(lateFinish);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.projectservice.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DependencyIndexTest {
+
+    private final List<TaskEdge> edges = new ArrayList<>();
+
+    @Test
+    void detectsCyclesOnTheStoredGraph() {
+        // 1 -> 2 -> 3, 1 -> 4
+        dependsOn(2, 1);
+        dependsOn(3, 2);
+        dependsOn(4, 1);
+        DependencyIndex index = build(1, 2, 3, 4);
+
+        assertThat(index.wouldCreateCycle(1L, 3L)).isTrue();
+        assertThat(index.wouldCreateCycle(1L, 2L)).isTrue();
+        assertThat(index.wouldCreateCycle(2L, 2L)).isTrue();
+        assertThat(index.wouldCreateCycle(3L, 4L)).isFalse();
+        assertThat(index.wouldCreateCycle(4L, 3L)).isFalse();
+        assertThat(index.wouldCreateCycle(3L, 1L)).isFalse();
+    }
+
+    @Test
+    void unknownTasksNeverCreateACycle() {
+        DependencyIndex index = build(1, 2);
+
+        assertThat(index.wouldCreateCycle(1L, 99L)).isFalse();
+        assertThat(index.wouldCreateCycle(99L, 1L)).isFalse();
+    }
+
+    @Test
+    void buildRejectsAStoredCycle() {
+        dependsOn(2, 1);
+        dependsOn(1, 2);
+
+        assertThatThrownBy(() -> build(1, 2)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void addingABackEdgeReordersLabels() {
+        // 1 et 2 indépendants : labels dans l'ordre de chargement, puis 2 devient prédécesseur de 1
+        DependencyIndex index = build(1, 2, 3);
+        index.addDependency(3L, 1L);
+
+        index.addDependency(1L, 2L);
+
+        assertThat(index.wouldCreateCycle(2L, 3L)).isTrue();
+        assertThat(index.wouldCreateCycle(2L, 1L)).isTrue();
+        assertThat(index.wouldCreateCycle(3L, 2L)).isFalse();
+        // Après réordonnancement, un nouvel arc compatible reste accepté sans cycle
+        index.addDependency(3L, 2L);
+        assertThat(index.wouldCreateCycle(1L, 3L)).isTrue();
+    }
+
+    @Test
+    void addDependencyRejectsACycleAndLeavesTheIndexUnchanged() {
+        dependsOn(2, 1);
+        dependsOn(3, 2);
+        DependencyIndex index = build(1, 2, 3);
+
+        assertThatThrownBy(() -> index.addDependency(1L, 3L)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> index.addDependency(1L, 1L)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(index.wouldCreateCycle(3L, 1L)).isFalse();
+        assertThat(index.wouldCreateCycle(1L, 3L)).isTrue();
+    }
+
+    @Test
+    void removeDependencyBreaksThePath() {
+        dependsOn(2, 1);
+        dependsOn(3, 2);
+        DependencyIndex index = build(1, 2, 3);
+
+        index.removeDependency(3L, 2L);
+
+        assertThat(index.wouldCreateCycle(1L, 3L)).isFalse();
+        assertThat(index.wouldCreateCycle(2L, 3L)).isFalse();
+        // L'arc inverse, qui formait un cycle avant la suppression, est maintenant accepté
+        index.addDependency(2L, 3L);
+        assertThat(index.wouldCreateCycle(3L, 2L)).isTrue();
+    }
+
+    @Test
+    void replacePredecessorsSwapsIncomingEdges() {
+        dependsOn(3, 1);
+        DependencyIndex index = build(1, 2, 3);
+
+        index.replacePredecessors(3L, List.of(2L));
+
+        assertThat(index.wouldCreateCycle(1L, 3L)).isFalse();
+        assertThat(index.wouldCreateCycle(2L, 3L)).isTrue();
+    }
+
+    @Test
+    void addAndRemoveTasks() {
+        dependsOn(2, 1);
+        dependsOn(3, 2);
+        DependencyIndex index = build(1, 2, 3);
+
+        index.addTask(4L);
+        index.addDependency(4L, 3L);
+        assertThat(index.containsTask(4L)).isTrue();
+        assertThat(index.wouldCreateCycle(1L, 4L)).isTrue();
+
+        index.removeTask(2L);
+        assertThat(index.containsTask(2L)).isFalse();
+        assertThat(index.wouldCreateCycle(1L, 4L)).isFalse();
+        assertThat(index.wouldCreateCycle(3L, 4L)).isTrue();
+    }
+
+    @Test
+    void removedSlotsAreReclaimed() {
+        long[] ids = new long[200];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+            if (i > 0) {
+                dependsOn(i + 1, i);
+            }
+        }
+        DependencyIndex index = DependencyIndex.build(ids, edges);
+        // Chaîne 1 -> 200 dont on retire 2..151 : compactage dès que plus de la moitié des emplacements est libre
+        for (long id = 2; id <= 151; id++) {
+            index.removeTask(id);
+        }
+
+        assertThat(index.slotCount()).isEqualTo(99);
+        assertThat(index.containsTask(100L)).isFalse();
+        assertThat(index.containsTask(152L)).isTrue();
+        assertThat(index.wouldCreateCycle(1L, 200L)).isFalse();
+        assertThat(index.wouldCreateCycle(152L, 200L)).isTrue();
+        assertThat(index.wouldCreateCycle(200L, 152L)).isFalse();
+
+        index.addDependency(152L, 1L);
+        assertThat(index.wouldCreateCycle(1L, 200L)).isTrue();
+        index.addTask(500L);
+        index.addDependency(1L, 500L);
+        assertThat(index.wouldCreateCycle(500L, 200L)).isTrue();
+        assertThatThrownBy(() -> index.addDependency(500L, 200L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void dependsOn(long task, long predecessor) {
+        edges.add(new TaskEdge(task, predecessor));
+    }
+
+    private DependencyIndex build(long... ids) {
+        return DependencyIndex.build(ids, edges);
+    }
+}
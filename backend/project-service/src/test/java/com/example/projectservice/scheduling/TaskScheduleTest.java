@@ -0,0 +1,178 @@
+package com.example.projectservice.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskScheduleTest {
+
+    private static final LocalDate PROJECT_START = LocalDate.of(2025, 1, 6);
+
+    private final List<TaskScheduleRow> rows = new ArrayList<>();
+    private final List<TaskEdge> edges = new ArrayList<>();
+
+    @Test
+    void computeAllChainsDatesAlongAChain() {
+        task(1, 2);
+        task(2, 3);
+        task(3, 1);
+        dependsOn(2, 1);
+        dependsOn(3, 2);
+
+        TaskSchedule schedule = schedule();
+        BitSet changed = schedule.computeAll();
+
+        assertThat(changed.cardinality()).isEqualTo(3);
+        assertDates(schedule, 1, "2025-01-06", "2025-01-07");
+        assertDates(schedule, 2, "2025-01-08", "2025-01-10");
+        assertDates(schedule, 3, "2025-01-11", "2025-01-11");
+        assertThat(schedule.visitedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void computeAllStartsAJoinAfterItsLatestPredecessor() {
+        task(1, 2);
+        task(2, 1);
+        task(3, 4);
+        task(4, 1);
+        dependsOn(2, 1);
+        dependsOn(3, 1);
+        dependsOn(4, 2);
+        dependsOn(4, 3);
+
+        TaskSchedule schedule = schedule();
+        schedule.computeAll();
+
+        assertDates(schedule, 2, "2025-01-08", "2025-01-08");
+        assertDates(schedule, 3, "2025-01-08", "2025-01-11");
+        assertDates(schedule, 4, "2025-01-12", "2025-01-12");
+    }
+
+    @Test
+    void computeAllIsIdempotent() {
+        task(1, 2);
+        task(2, 3);
+        dependsOn(2, 1);
+
+        TaskSchedule schedule = schedule();
+        schedule.computeAll();
+
+        assertThat(schedule.computeAll().isEmpty()).isTrue();
+    }
+
+    @Test
+    void propagateFromPushesAChangeDownTheChainOnly() {
+        // Dates déjà calculées pour une durée de 2 ; la tâche 1 passe à 4 jours
+        task(1, 4, "2025-01-06", "2025-01-07");
+        task(2, 3, "2025-01-08", "2025-01-10");
+        task(3, 1, "2025-01-11", "2025-01-11");
+        task(4, 5, "2025-01-06", "2025-01-10");
+        dependsOn(2, 1);
+        dependsOn(3, 2);
+
+        TaskSchedule schedule = schedule();
+        BitSet changed = schedule.propagateFrom(node(schedule, 1));
+
+        assertThat(changed.cardinality()).isEqualTo(3);
+        assertThat(changed.get(node(schedule, 4))).isFalse();
+        assertThat(schedule.visitedCount()).isEqualTo(3);
+        assertDates(schedule, 1, "2025-01-06", "2025-01-09");
+        assertDates(schedule, 2, "2025-01-10", "2025-01-12");
+        assertDates(schedule, 3, "2025-01-13", "2025-01-13");
+        assertDates(schedule, 4, "2025-01-06", "2025-01-10");
+    }
+
+    @Test
+    void propagateFromStopsWhereDatesDoNotChange() {
+        // La tâche 2 reste calée sur la tâche 5, plus tardive : la tâche 3 n'est pas visitée
+        task(1, 3, "2025-01-06", "2025-01-07");
+        task(5, 10, "2025-01-06", "2025-01-15");
+        task(2, 1, "2025-01-16", "2025-01-16");
+        task(3, 1, "2025-01-17", "2025-01-17");
+        dependsOn(2, 1);
+        dependsOn(2, 5);
+        dependsOn(3, 2);
+
+        TaskSchedule schedule = schedule();
+        BitSet changed = schedule.propagateFrom(node(schedule, 1));
+
+        assertThat(changed.cardinality()).isEqualTo(1);
+        assertThat(changed.get(node(schedule, 1))).isTrue();
+        assertThat(schedule.visitedCount()).isEqualTo(2);
+        assertDates(schedule, 1, "2025-01-06", "2025-01-08");
+        assertDates(schedule, 2, "2025-01-16", "2025-01-16");
+    }
+
+    @Test
+    void propagateFromVisitsSuccessorsOfAnUnchangedSource() {
+        // Dates de la source saisies et déjà enregistrées : les successeurs sont tout de même recalculés
+        task(1, 2, "2025-01-20", "2025-01-21");
+        task(2, 1, "2025-01-08", "2025-01-08");
+        dependsOn(2, 1);
+
+        TaskSchedule schedule = schedule();
+        BitSet changed = schedule.propagateFrom(node(schedule, 1));
+
+        assertThat(changed.get(node(schedule, 1))).isFalse();
+        assertThat(changed.get(node(schedule, 2))).isTrue();
+        assertDates(schedule, 2, "2025-01-22", "2025-01-22");
+    }
+
+    @Test
+    void zeroDurationTaskGetsAStartButKeepsItsDueDate() {
+        task(1, 2);
+        task(2, 0, null, "2025-01-31");
+        task(3, 2);
+        dependsOn(2, 1);
+        dependsOn(3, 2);
+
+        TaskSchedule schedule = schedule();
+        schedule.computeAll();
+
+        assertDates(schedule, 2, "2025-01-08", "2025-01-31");
+        assertDates(schedule, 3, "2025-02-01", "2025-02-02");
+    }
+
+    @Test
+    void tasksWithoutPredecessorsKeepAnEnteredStartDate() {
+        task(1, 2, "2025-03-03", null);
+
+        TaskSchedule schedule = schedule();
+        schedule.computeAll();
+
+        assertDates(schedule, 1, "2025-03-03", "2025-03-04");
+    }
+
+    private void task(long id, int duration) {
+        task(id, duration, null, null);
+    }
+
+    private void task(long id, int duration, String start, String due) {
+        rows.add(new TaskScheduleRow(id, "Task " + id, duration,
+            start != null ? LocalDate.parse(start) : null, due != null ? LocalDate.parse(due) : null));
+    }
+
+    private void dependsOn(long taskId, long predecessorId) {
+        edges.add(new TaskEdge(taskId, predecessorId));
+    }
+
+    private TaskSchedule schedule() {
+        long[] ids = rows.stream().mapToLong(TaskScheduleRow::id).toArray();
+        return TaskSchedule.of(TaskGraph.build(ids, edges), rows, PROJECT_START);
+    }
+
+    private static int node(TaskSchedule schedule, long id) {
+        return schedule.graph().indexOf(id);
+    }
+
+    private static void assertDates(TaskSchedule schedule, long id, String start, String due) {
+        int node = node(schedule, id);
+        assertThat(schedule.startDate(node)).as("start of task %d", id).isEqualTo(LocalDate.parse(start));
+        assertThat(schedule.dueDate(node)).as("due date of task %d", id).isEqualTo(LocalDate.parse(due));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.repository.TaskRepository;
+import com.example.projectservice.scheduling.TaskEdge;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DependencyIndexServiceTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final DependencyIndexService service = new DependencyIndexService(taskRepository);
+
+    @Test
+    void indexIsLoadedOnceThenPatchedAfterEachChange() {
+        stored(List.of(10L, 20L, 30L), List.of(new TaskEdge(20L, 10L)));
+
+        assertThat(service.wouldCreateCycle(PROJECT_ID, 10L, 20L)).isTrue();
+        service.dependencyAdded(PROJECT_ID, 30L, 20L);
+        assertThat(service.wouldCreateCycle(PROJECT_ID, 10L, 30L)).isTrue();
+        assertThat(service.wouldCreateCycle(PROJECT_ID, 30L, 10L)).isFalse();
+
+        verify(taskRepository, times(1)).findEdgesByProjectId(PROJECT_ID);
+    }
+
+    @Test
+    void aStoredCycleFallsBackToAGraphSearchWithoutCaching() {
+        // 10 <-> 20 déjà en base, 30 dépend de 20
+        stored(List.of(10L, 20L, 30L, 40L),
+            List.of(new TaskEdge(20L, 10L), new TaskEdge(10L, 20L), new TaskEdge(30L, 20L)));
+
+        assertThat(service.wouldCreateCycle(PROJECT_ID, 10L, 30L)).isTrue();
+        assertThat(service.wouldCreateCycle(PROJECT_ID, 40L, 30L)).isFalse();
+        assertThat(service.wouldCreateCycle(PROJECT_ID, 30L, 40L)).isFalse();
+
+        verify(taskRepository, times(3)).findEdgesByProjectId(PROJECT_ID);
+    }
+
+    @Test
+    void theProjectIsIndexedAgainOnceTheCycleIsRemoved() {
+        stored(List.of(10L, 20L), List.of(new TaskEdge(20L, 10L), new TaskEdge(10L, 20L)));
+        assertThat(service.wouldCreateCycle(PROJECT_ID, 10L, 20L)).isTrue();
+
+        stored(List.of(10L, 20L), List.of(new TaskEdge(20L, 10L)));
+        service.dependencyRemoved(PROJECT_ID, 10L, 20L);
+        assertThat(service.wouldCreateCycle(PROJECT_ID, 10L, 20L)).isTrue();
+        assertThat(service.wouldCreateCycle(PROJECT_ID, 20L, 10L)).isFalse();
+
+        verify(taskRepository, times(2)).findEdgesByProjectId(PROJECT_ID);
+    }
+
+    @Test
+    void projectChangedEvictsTheIndex() {
+        stored(List.of(10L, 20L), List.of());
+        assertThat(service.wouldCreateCycle(PROJECT_ID, 10L, 20L)).isFalse();
+
+        stored(List.of(10L, 20L), List.of(new TaskEdge(20L, 10L)));
+        service.projectChanged(PROJECT_ID);
+
+        assertThat(service.wouldCreateCycle(PROJECT_ID, 10L, 20L)).isTrue();
+    }
+
+    private void stored(List<Long> taskIds, List<TaskEdge> edges) {
+        when(taskRepository.findIdsByProjectId(PROJECT_ID)).thenReturn(taskIds);
+        when(taskRepository.findEdgesByProjectId(PROJECT_ID)).thenReturn(edges);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.config.BackgroundThreads;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectEventServiceTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    private final BackgroundThreads threads = new BackgroundThreads(new StandardEnvironment());
+    private final ProjectEventService service = new ProjectEventService(new ObjectMapper(), threads);
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        service.shutdown();
+    }
+
+    @Test
+    void eventsReachEverySubscriberInPublicationOrder() throws InterruptedException {
+        RecordingEmitter first = subscribe(false);
+        RecordingEmitter second = subscribe(false);
+
+        for (long taskId = 1; taskId <= 20; taskId++) {
+            service.taskUpdated(PROJECT_ID, taskId);
+        }
+
+        for (RecordingEmitter emitter : List.of(first, second)) {
+            assertThat(emitter.next()).contains("connected");
+            for (long taskId = 1; taskId <= 20; taskId++) {
+                assertThat(emitter.next()).contains("\"taskId\":" + taskId + "}");
+            }
+        }
+    }
+
+    @Test
+    void aStalledSubscriberDoesNotDelayTheOthers() throws InterruptedException {
+        RecordingEmitter stalled = subscribe(true);
+        RecordingEmitter healthy = subscribe(false);
+
+        service.taskCreated(PROJECT_ID, 7L);
+
+        assertThat(healthy.next()).contains("connected");
+        assertThat(healthy.next()).contains("task-created");
+        assertThat(stalled.frames).isEmpty();
+    }
+
+    @Test
+    void aSubscriberWhoseQueueOverflowsIsDisconnected() throws InterruptedException {
+        RecordingEmitter stalled = subscribe(true);
+        RecordingEmitter healthy = subscribe(false);
+
+        for (long taskId = 1; taskId <= ProjectEventService.QUEUE_CAPACITY + 10; taskId++) {
+            service.taskUpdated(PROJECT_ID, taskId);
+        }
+
+        assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(healthy.completed.getCount()).isEqualTo(1);
+        assertThat(service.hasSubscribers(PROJECT_ID)).isTrue();
+
+        // L'abonné sain reçoit toujours les événements suivants
+        healthy.frames.clear();
+        service.projectUpdated(PROJECT_ID);
+        String frame;
+        do {
+            frame = healthy.next();
+        } while (frame != null && !frame.contains("project-updated"));
+        assertThat(frame).contains("project-updated");
+    }
+
+    @Test
+    void aFailingSubscriberIsRemoved() throws InterruptedException {
+        RecordingEmitter failing = subscribe(false);
+        failing.fail = true;
+
+        service.taskDeleted(PROJECT_ID, 3L);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.hasSubscribers(PROJECT_ID) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(service.hasSubscribers(PROJECT_ID)).isFalse();
+    }
+
+    @Test
+    void aSubscriberThatCannotBeScheduledIsDisconnected() throws InterruptedException {
+        // Un thread d'envoi et une place en file : deux clients bloqués saturent le pool
+        ProjectEventService saturated = new ProjectEventService(new ObjectMapper(), threads, 1, 1);
+        try {
+            RecordingEmitter sending = subscribe(saturated, true);
+            RecordingEmitter waiting = subscribe(saturated, true);
+            RecordingEmitter rejected = subscribe(saturated, false);
+
+            assertThat(rejected.completed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(sending.completed.getCount()).isEqualTo(1);
+            assertThat(waiting.completed.getCount()).isEqualTo(1);
+            assertThat(saturated.hasSubscribers(PROJECT_ID)).isTrue();
+        } finally {
+            emitters.forEach(emitter -> emitter.release.countDown());
+            saturated.shutdown();
+        }
+    }
+
+    @Test
+    void closingTheContextCompletesOpenStreams() throws InterruptedException {
+        RecordingEmitter stalled = subscribe(true);
+        RecordingEmitter idle = subscribe(false);
+
+        service.closeStreams();
+
+        assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(idle.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.hasSubscribers(PROJECT_ID)).isFalse();
+    }
+
+    private RecordingEmitter subscribe(boolean stalled) {
+        return subscribe(service, stalled);
+    }
+
+    private RecordingEmitter subscribe(ProjectEventService target, boolean stalled) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        if (!stalled) {
+            emitter.release.countDown();
+        }
+        emitters.add(emitter);
+        target.subscribe(PROJECT_ID, emitter);
+        return emitter;
+    }
+
+    /**
+     * Flux de test : enregistre les trames envoyées et peut bloquer l'écriture comme un client qui ne lit plus.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile boolean fail;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws java.io.IOException {
+            if (fail) {
+                throw new java.io.IOException("Broken pipe");
+            }
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            StringBuilder frame = new StringBuilder();
+            items.forEach(item -> frame.append(item.getData()));
+            frames.add(frame.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        String next() throws InterruptedException {
+            return frames.poll(5, TimeUnit.SECONDS);
+        }
+    }
+}
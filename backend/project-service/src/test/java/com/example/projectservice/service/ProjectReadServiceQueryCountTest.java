@@ -0,0 +1,101 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.dto.ProjectDTO;
+import com.example.projectservice.dto.TaskDTO;
+import com.example.projectservice.metrics.HibernateRequestStatistics;
+import com.example.projectservice.model.Project;
+import com.example.projectservice.model.Task;
+import com.example.projectservice.repository.ProjectRepository;
+import com.example.projectservice.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Non-régression N+1 : lire un projet coûte le même nombre de requêtes SQL quel que soit son nombre de tâches.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectReadServiceQueryCountTest {
+
+    @Autowired
+    private ProjectReadService readService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void readingTasksIssuesAConstantNumberOfStatements() {
+        Project small = project(10);
+        Project large = project(200);
+
+        long smallCount = countStatements(() -> readService.getTasks(small.getId(), readService.getRevision(small.getId())));
+        long largeCount = countStatements(() -> readService.getTasks(large.getId(), readService.getRevision(large.getId())));
+
+        assertThat(smallCount).isPositive();
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    void readingAProjectIssuesAConstantNumberOfStatements() {
+        Project small = project(10);
+        Project large = project(200);
+
+        long smallCount = countStatements(() -> readService.getProject(small.getId(), readService.getRevision(small.getId())));
+        long largeCount = countStatements(() -> readService.getProject(large.getId(), readService.getRevision(large.getId())));
+
+        assertThat(smallCount).isPositive();
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    void everyTaskIsReadWithItsDependenciesAndAssignees() {
+        Project project = project(10);
+
+        List<TaskDTO> tasks = readService.getTasks(project.getId(), readService.getRevision(project.getId()));
+
+        assertThat(tasks).hasSize(10);
+        assertThat(tasks).allSatisfy(task -> assertThat(task.getAssigneeIds()).hasSize(2));
+        assertThat(tasks.stream().filter(task -> task.getPredecessorIds().size() == 1)).hasSize(9);
+    }
+
+    private long countStatements(Supplier<?> read) {
+        HibernateRequestStatistics.start();
+        Object result = read.get();
+        long statements = HibernateRequestStatistics.stop()[0];
+        assertThat(result).isNotNull();
+        return statements;
+    }
+
+    /**
+     * Projet en chaîne : chaque tâche dépend de la précédente et a deux assignés.
+     */
+    private Project project(int taskCount) {
+        Project project = projectRepository.save(
+            Project.builder().name("Projet " + taskCount).startDate(LocalDate.of(2025, 1, 6)).build());
+        List<Task> tasks = new ArrayList<>();
+        Task previous = null;
+        for (int i = 0; i < taskCount; i++) {
+            Task task = Task.builder().name("T" + i).duration(1).project(project).build();
+            task.getAssigneeIds().addAll(List.of(1L, 2L));
+            if (previous != null) {
+                task.getPredecessors().add(previous);
+            }
+            tasks.add(task);
+            previous = task;
+        }
+        taskRepository.saveAll(tasks);
+        return project;
+    }
+}
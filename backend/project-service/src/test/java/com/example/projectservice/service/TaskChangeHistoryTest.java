@@ -0,0 +1,156 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.exception.ConflictException;
+import com.example.projectservice.model.Task;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskChangeHistoryTest {
+
+    private static final Long TASK_ID = 42L;
+
+    private final TaskChangeHistory history = new TaskChangeHistory();
+
+    @Test
+    void rebaseOnTheCurrentVersionKeepsTheRequest() {
+        Task task = task();
+        Map<String, Object> requested = edit(task, t -> t.setName("Mine"));
+
+        Map<String, Object> merged = history.rebase(TaskChangeHistory.State.of(task), 0, requested);
+
+        assertThat(merged).isEqualTo(requested);
+    }
+
+    @Test
+    void changesOnDifferentFieldsAreMerged() {
+        Task task = task();
+        Map<String, Object> requested = edit(task, t -> t.setName("Mine"));
+        change(task, t -> t.setDuration(5));
+
+        Map<String, Object> merged = history.rebase(TaskChangeHistory.State.of(task), 0, requested);
+
+        assertThat(merged).containsEntry(TaskChangeHistory.NAME, "Mine").containsEntry(TaskChangeHistory.DURATION, 5);
+    }
+
+    @Test
+    void theSameValueOnBothSidesIsNotAConflict() {
+        Task task = task();
+        Map<String, Object> requested = edit(task, t -> t.setDuration(5));
+        change(task, t -> t.setDuration(5));
+
+        Map<String, Object> merged = history.rebase(TaskChangeHistory.State.of(task), 0, requested);
+
+        assertThat(merged).containsEntry(TaskChangeHistory.DURATION, 5);
+    }
+
+    @Test
+    void differentValuesForTheSameFieldConflict() {
+        Task task = task();
+        Map<String, Object> requested = edit(task, t -> {
+            t.setDuration(7);
+            t.setName("Mine");
+        });
+        change(task, t -> t.setDuration(5));
+
+        assertThatThrownBy(() -> history.rebase(TaskChangeHistory.State.of(task), 0, requested))
+            .isInstanceOf(ConflictException.class)
+            .satisfies(e -> assertThat(((ConflictException) e).getFields()).containsExactly(TaskChangeHistory.DURATION));
+    }
+
+    @Test
+    void theBaseValueIsTheOldestOneAcrossSeveralVersions() {
+        Task task = task();
+        Map<String, Object> untouched = edit(task, t -> t.setProgress(50));
+        Map<String, Object> intermediate = edit(task, t -> t.setName("B"));
+        change(task, t -> t.setName("B"));
+        change(task, t -> t.setName("C"));
+
+        Map<String, Object> merged = history.rebase(TaskChangeHistory.State.of(task), 0, untouched);
+        assertThat(merged).containsEntry(TaskChangeHistory.NAME, "C").containsEntry(TaskChangeHistory.PROGRESS, 50);
+
+        // "B" n'est ni la valeur de base ("A") ni la valeur courante ("C")
+        assertThatThrownBy(() -> history.rebase(TaskChangeHistory.State.of(task), 0, intermediate))
+            .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void recalculatedDatesAreTakenFromTheCurrentState() {
+        Task task = task();
+        Map<String, Object> requested = edit(task, t -> t.setDone(true));
+        LocalDate previousStart = task.getStartDate();
+        LocalDate previousDue = task.getDueDate();
+        task.setStartDate(previousStart.plusDays(3));
+        task.setDueDate(previousDue.plusDays(3));
+        history.recordDates(TASK_ID, 0, previousStart, previousDue);
+        task.setVersion(1L);
+
+        Map<String, Object> merged = history.rebase(TaskChangeHistory.State.of(task), 0, requested);
+
+        assertThat(merged)
+            .containsEntry(TaskChangeHistory.DONE, true)
+            .containsEntry(TaskChangeHistory.START_DATE, LocalDate.of(2025, 1, 9))
+            .containsEntry(TaskChangeHistory.DUE_DATE, LocalDate.of(2025, 1, 10));
+    }
+
+    @Test
+    void aMissingTransitionIsAConflict() {
+        Task task = task();
+        Map<String, Object> requested = edit(task, t -> t.setName("Mine"));
+        change(task, t -> t.setDuration(5));
+        // Version 1 -> 2 sans historique (autre instance, import)
+        task.setVersion(2L);
+
+        assertThatThrownBy(() -> history.rebase(TaskChangeHistory.State.of(task), 0, requested))
+            .isInstanceOf(ConflictException.class)
+            .hasMessage("Task was modified concurrently");
+    }
+
+    @Test
+    void aVersionNewerThanTheCurrentOneIsAConflict() {
+        Task task = task();
+
+        assertThatThrownBy(() -> history.rebase(TaskChangeHistory.State.of(task), 3, Map.of()))
+            .isInstanceOf(ConflictException.class)
+            .hasMessage("Unknown task version 3");
+    }
+
+    private static Task task() {
+        Task task = Task.builder()
+            .id(TASK_ID)
+            .version(0L)
+            .name("A")
+            .duration(2)
+            .startDate(LocalDate.of(2025, 1, 6))
+            .dueDate(LocalDate.of(2025, 1, 7))
+            .build();
+        task.getAssigneeIds().addAll(List.of(3L, 1L));
+        return task;
+    }
+
+    /**
+     * Champs demandés par un client qui a lu l'état courant puis modifié sa copie.
+     */
+    private static Map<String, Object> edit(Task task, Consumer<Task> edit) {
+        Task copy = task();
+        TaskChangeHistory.applyTo(TaskChangeHistory.State.of(task).fields(), copy);
+        edit.accept(copy);
+        return TaskChangeHistory.State.of(copy).fields();
+    }
+
+    /**
+     * Modification concurrente validée : enregistrée dans l'historique, la version avance.
+     */
+    private void change(Task task, Consumer<Task> change) {
+        TaskChangeHistory.State before = TaskChangeHistory.State.of(task);
+        change.accept(task);
+        history.record(before, TaskChangeHistory.State.of(task));
+        task.setVersion(task.getVersion() + 1);
+    }
+}
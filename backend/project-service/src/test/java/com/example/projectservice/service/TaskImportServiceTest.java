@@ -0,0 +1,145 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.dto.TaskImportResultDTO;
+import com.example.projectservice.exception.InvalidImportException;
+import com.example.projectservice.mapper.TaskMapper;
+import com.example.projectservice.repository.ProjectRepository;
+import com.example.projectservice.repository.TaskRepository;
+import com.example.projectservice.scheduling.TaskEdge;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskImportServiceTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskSchedulingService schedulingService = mock(TaskSchedulingService.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final AtomicLong sequence = new AtomicLong(100);
+
+    private TaskImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskImportService(projectRepository, taskRepository, schedulingService,
+            mock(DependencyIndexService.class), mock(ProjectChangeService.class), mock(ProjectEventService.class),
+            mock(TaskMapper.class), jdbcTemplate, new ObjectMapper());
+        when(projectRepository.existsById(PROJECT_ID)).thenReturn(true);
+        when(taskRepository.findIdsByProjectId(PROJECT_ID)).thenReturn(List.of(5L, 6L));
+        when(taskRepository.findEdgesByProjectId(PROJECT_ID)).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyInt())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(2);
+            return LongStream.range(0, count).map(i -> sequence.incrementAndGet()).boxed().toList();
+        });
+    }
+
+    @Test
+    void importsRecordsAndResolvesKeysDeclaredLaterInTheBatch() {
+        TaskImportResultDTO result = service.importTasks(PROJECT_ID, ndjson(
+            "{\"key\":\"b\",\"name\":\"B\",\"predecessorKeys\":[\"a\"]}",
+            "{\"key\":\"a\",\"name\":\"A\",\"predecessorIds\":[5]}",
+            "{\"id\":6,\"name\":\"Existante\"}"));
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getDependencies()).isEqualTo(2);
+        assertThat(result.getTaskIds()).containsEntry("b", 101L).containsEntry("a", 102L);
+        verify(schedulingService).recalculateProject(PROJECT_ID);
+    }
+
+    @Test
+    void largeImportsAreWrittenChunkByChunk() {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 2500; i++) {
+            body.append(i > 0 ? "," : "").append("{\"key\":\"t").append(i).append("\",\"name\":\"T\"}");
+        }
+        TaskImportResultDTO result = service.importTasks(PROJECT_ID, json(body.append("]").toString()));
+
+        assertThat(result.getCreated()).isEqualTo(2500);
+        // Une allocation d'IDs et une écriture de tâches par tranche de 1000 enregistrements
+        verify(jdbcTemplate, times(3)).queryForList(anyString(), eq(Long.class), anyInt());
+        verify(jdbcTemplate, times(3)).batchUpdate(startsWith("insert into task "), any(Collection.class), anyInt(), any());
+    }
+
+    @Test
+    void duplicateIdIsRejectedNamingTheRecord() {
+        assertThatThrownBy(() -> service.importTasks(PROJECT_ID, ndjson(
+                "{\"id\":5,\"name\":\"A\"}",
+                "{\"key\":\"x\",\"name\":\"X\"}",
+                "{\"id\":5,\"name\":\"A bis\"}")))
+            .isInstanceOf(InvalidImportException.class)
+            .hasMessage("Record 3: Duplicate task id: 5")
+            .extracting("record").isEqualTo(3);
+        verify(schedulingService, never()).recalculateProject(PROJECT_ID);
+    }
+
+    @Test
+    void duplicateKeyIsRejectedNamingTheRecord() {
+        assertThatThrownBy(() -> service.importTasks(PROJECT_ID, ndjson(
+                "{\"key\":\"a\",\"name\":\"A\"}",
+                "{\"key\":\"a\",\"name\":\"A bis\"}")))
+            .isInstanceOf(InvalidImportException.class)
+            .hasMessage("Record 2: Duplicate task key: a");
+    }
+
+    @Test
+    void unknownPredecessorKeyIsRejectedNamingTheRecord() {
+        assertThatThrownBy(() -> service.importTasks(PROJECT_ID, ndjson(
+                "{\"key\":\"a\",\"name\":\"A\"}",
+                "{\"key\":\"b\",\"name\":\"B\",\"predecessorKeys\":[\"zz\"]}")))
+            .isInstanceOf(InvalidImportException.class)
+            .hasMessage("Record 2: Unknown predecessor key: zz");
+    }
+
+    @Test
+    void aCycleInTheBatchIsRejected() {
+        when(taskRepository.findEdgesByProjectId(PROJECT_ID)).thenReturn(List.of(new TaskEdge(6L, 5L)));
+
+        assertThatThrownBy(() -> service.importTasks(PROJECT_ID, ndjson(
+                "{\"id\":5,\"name\":\"A\",\"predecessorIds\":[6]}")))
+            .isInstanceOf(InvalidImportException.class)
+            .hasMessage("Imported dependencies would create a cycle");
+    }
+
+    @Test
+    void malformedPayloadNamesTheFailingRecord() {
+        assertThatThrownBy(() -> service.importTasks(PROJECT_ID, ndjson(
+                "{\"key\":\"a\",\"name\":\"A\"}",
+                "{\"key\":")))
+            .isInstanceOf(InvalidImportException.class)
+            .extracting("record").isEqualTo(2);
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return json(String.join("\n", lines));
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.projectservice.service;
+
+import com.example.projectservice.metrics.HibernateRequestStatistics;
+import com.example.projectservice.model.Project;
+import com.example.projectservice.model.Task;
+import com.example.projectservice.repository.ProjectRepository;
+import com.example.projectservice.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Coût de la propagation : proportionnel aux tâches affectées, pas à la longueur de la chaîne en aval.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskSchedulingServicePropagationTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 6);
+
+    @Autowired
+    private TaskSchedulingService schedulingService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void anEditWithoutEffectCostsTheSameWhateverTheChainLength() {
+        List<Task> small = chain(20);
+        List<Task> large = chain(200);
+
+        long smallCount = countStatements(small.get(0));
+        long largeCount = countStatements(large.get(0));
+
+        assertThat(smallCount).isPositive();
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    void aShiftAtTheTopMovesTheWholeChain() {
+        List<Task> tasks = chain(150);
+        Task top = tasks.get(0);
+        top.setDuration(3);
+        taskRepository.save(top);
+
+        int changed = schedulingService.propagateFrom(top.getProject().getId(), top.getId());
+
+        assertThat(changed).isEqualTo(150);
+        List<Task> reloaded = reload(tasks);
+        assertThat(reloaded.get(0).getDueDate()).isEqualTo(START.plusDays(2));
+        for (int i = 1; i < reloaded.size(); i++) {
+            assertThat(reloaded.get(i).getStartDate()).isEqualTo(START.plusDays(i + 2));
+            assertThat(reloaded.get(i).getDueDate()).isEqualTo(START.plusDays(i + 2));
+        }
+    }
+
+    @Test
+    void aShiftStopsWhereTheDatesNoLongerChange() {
+        // T0 -> T1 -> ... ; T3 attend aussi une tâche longue, le décalage de T0 s'y arrête
+        List<Task> tasks = chain(40);
+        Task blocker = Task.builder().name("Blocker").duration(10).startDate(START).dueDate(START.plusDays(9))
+            .project(tasks.get(0).getProject()).build();
+        taskRepository.save(blocker);
+        tasks.get(3).getPredecessors().add(blocker);
+        taskRepository.save(tasks.get(3));
+        schedulingService.recalculateProject(tasks.get(0).getProject().getId());
+
+        Task top = taskRepository.findById(tasks.get(0).getId()).orElseThrow();
+        top.setDuration(2);
+        taskRepository.save(top);
+
+        assertThat(schedulingService.propagateFrom(top.getProject().getId(), top.getId())).isEqualTo(3);
+        List<Task> reloaded = reload(tasks);
+        assertThat(reloaded.get(2).getDueDate()).isEqualTo(START.plusDays(3));
+        assertThat(reloaded.get(3).getStartDate()).isEqualTo(START.plusDays(10));
+    }
+
+    private long countStatements(Task top) {
+        HibernateRequestStatistics.start();
+        int changed = schedulingService.propagateFrom(top.getProject().getId(), top.getId());
+        long statements = HibernateRequestStatistics.stop()[0];
+        assertThat(changed).isZero();
+        return statements;
+    }
+
+    private List<Task> reload(List<Task> tasks) {
+        return taskRepository.findAllById(tasks.stream().map(Task::getId).toList()).stream()
+            .sorted(Comparator.comparing(Task::getId))
+            .toList();
+    }
+
+    /**
+     * Chaîne de tâches d'un jour, chacune dépendant de la précédente, aux dates déjà calculées.
+     */
+    private List<Task> chain(int taskCount) {
+        Project project = projectRepository.save(
+            Project.builder().name("Chaîne " + taskCount).startDate(START).build());
+        List<Task> tasks = new ArrayList<>();
+        Task previous = null;
+        for (int i = 0; i < taskCount; i++) {
+            Task task = Task.builder().name("T" + i).duration(1)
+                .startDate(START.plusDays(i)).dueDate(START.plusDays(i)).project(project).build();
+            if (previous != null) {
+                task.getPredecessors().add(previous);
+            }
+            tasks.add(task);
+            previous = task;
+        }
+        return taskRepository.saveAll(tasks);
+    }
+}
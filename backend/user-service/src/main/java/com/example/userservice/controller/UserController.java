@@ -1,6 +1,10 @@
 package com.example.userservice.controller;
 
+import com.example.userservice.dto.KeysetPageDTO;
+import com.example.userservice.dto.UserSummaryDTO;
 import com.example.userservice.model.User;
+import com.example.userservice.repository.UserSearchRepository;
+import com.example.userservice.service.UserDirectoryService;
 import com.example.userservice.service.UserService;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -9,12 +13,34 @@ import java.util.List;
 @RequestMapping("/users")
 public class UserController {
     private final UserService service;
+    private final UserDirectoryService directory;
 
-    public UserController(UserService service) { this.service = service; }
+    public UserController(UserService service, UserDirectoryService directory) {
+        this.service = service;
+        this.directory = directory;
+    }
 
     @GetMapping
     public List<User> getUsers() { return service.findAll(); }
 
+    // Annuaire paginé : q filtre par préfixe (ou sous-chaîne avec match=contains) du nom ou de l'email
+    @GetMapping("/search")
+    public KeysetPageDTO<UserSummaryDTO> searchUsers(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "prefix") String match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return service.search(q, UserSearchRepository.Match.parse(match), cursor, limit);
+    }
+
+    // Résolution d'IDs (assignés, plannings) : GET /users?ids=1,2,3
+    @GetMapping(params = "ids")
+    public List<UserSummaryDTO> getUsersByIds(@RequestParam List<Long> ids) { return directory.findByIds(ids); }
+
+    // Même résolution pour les lots trop longs pour une URL
+    @PostMapping("/lookup")
+    public List<UserSummaryDTO> lookupUsers(@RequestBody List<Long> ids) { return directory.findByIds(ids); }
+
     @PostMapping
     public User createUser(@RequestBody User user) { return service.save(user); }
 }
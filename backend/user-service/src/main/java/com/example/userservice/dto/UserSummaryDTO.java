@@ -0,0 +1,37 @@
+package com.example.userservice.dto;
+
+/**
+ * Fiche publique d'un utilisateur (sans mot de passe), renvoyée par les recherches par IDs.
+ */
+public class UserSummaryDTO {
+    private Long id;
+    private String username;
+    private String email;
+
+    public UserSummaryDTO() {}
+
+    public UserSummaryDTO(Long id, String username, String email) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+    }
+
+    public Long getId() {
+        return id;
+    }
+    public void setId(Long id) {
+        this.id = id;
+    }
+    public String getUsername() {
+        return username;
+    }
+    public void setUsername(String username) {
+        this.username = username;
+    }
+    public String getEmail() {
+        return email;
+    }
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
@@ -1,7 +1,18 @@
 package com.example.userservice.repository;
 
+import com.example.userservice.dto.UserSummaryDTO;
 import com.example.userservice.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // Projection directe : le mot de passe n'est jamais lu
+    @Query("select new com.example.userservice.dto.UserSummaryDTO(u.id, u.username, u.email) "
+        + "from User u where u.id in :ids")
+    List<UserSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,137 @@
+package com.example.userservice.repository;
+
+import com.example.userservice.dto.KeysetPageDTO;
+import com.example.userservice.dto.UserSummaryDTO;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Annuaire paginé et filtrable des utilisateurs (SQL direct, sans le mot de passe).
+ * Tri par nom d'utilisateur puis id, pagination par clé sur ce couple : chaque page est une lecture
+ * d'index de taille constante, quelle que soit sa position. Les index utilisés sont créés par
+ * db/user-search-indexes.sql :
+ * - préfixe : index B-tree en collation "C" sur lower(username) et lower(email), qui sert aussi le tri ;
+ * - sous-chaîne : index GIN trigrammes (pg_trgm) sur les mêmes expressions.
+ */
+@Repository
+public class UserSearchRepository {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    // Mêmes expressions que les index : toute différence empêcherait leur utilisation
+    private final String usernameKey;
+    private final String emailKey;
+    private final String collation;
+
+    public UserSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        // collate "C" est propre à PostgreSQL ; H2 (tests) compare déjà les chaînes par point de code
+        this.collation = isPostgreSql(jdbcTemplate.getJdbcTemplate().getDataSource()) ? " collate \"C\"" : "";
+        this.usernameKey = "lower(coalesce(u.username, ''))" + collation;
+        this.emailKey = "lower(coalesce(u.email, ''))" + collation;
+    }
+
+    public enum Match {
+        PREFIX, CONTAINS;
+
+        public static Match parse(String value) {
+            try {
+                return Match.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unsupported match mode: " + value);
+            }
+        }
+    }
+
+    public KeysetPageDTO<UserSummaryDTO> findPage(String query, Match match, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> conditions = new ArrayList<>();
+
+        if (query != null && !query.isBlank()) {
+            String escaped = escapeLike(query.trim().toLowerCase(Locale.ROOT));
+            if (match == Match.CONTAINS) {
+                conditions.add("(lower(u.username) like :pattern or lower(u.email) like :pattern)");
+                params.addValue("pattern", "%" + escaped + "%");
+            } else {
+                conditions.add("(" + usernameKey + " like :pattern or " + emailKey + " like :pattern)");
+                params.addValue("pattern", escaped + "%");
+            }
+        }
+        if (cursor != null && !cursor.isEmpty()) {
+            Cursor position = Cursor.decode(cursor);
+            conditions.add("(" + usernameKey + ", u.id) > (:afterName" + collation + ", :afterId)");
+            params.addValue("afterName", position.username());
+            params.addValue("afterId", position.id());
+        }
+        params.addValue("limit", pageSize + 1);
+
+        String sql = "select u.id, u.username, u.email, " + usernameKey + " as sort_key from app_user u"
+            + (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions))
+            + " order by " + usernameKey + ", u.id limit :limit";
+
+        // La clé du curseur est celle calculée par la base : lower() de PostgreSQL et toLowerCase() de Java
+        // peuvent différer sur certains caractères, ce qui sauterait ou répéterait des lignes
+        List<String> sortKeys = new ArrayList<>();
+        List<UserSummaryDTO> items = jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            sortKeys.add(rs.getString("sort_key"));
+            return new UserSummaryDTO(rs.getLong("id"), rs.getString("username"), rs.getString("email"));
+        });
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = new ArrayList<>(items.subList(0, pageSize));
+            nextCursor = new Cursor(items.get(pageSize - 1).getId(), sortKeys.get(pageSize - 1)).encode();
+        }
+        return new KeysetPageDTO<>(items, nextCursor);
+    }
+
+    private static boolean isPostgreSql(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException e) {
+            // Base injoignable au démarrage : la base de production est PostgreSQL
+            return true;
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Position opaque dans la liste : id et clé de tri (nom en minuscules, calculé par la base) du dernier
+     * utilisateur renvoyé.
+     */
+    private record Cursor(Long id, String username) {
+
+        String encode() {
+            String raw = id + ":" + username;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new Cursor(Long.valueOf(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
+    }
+}
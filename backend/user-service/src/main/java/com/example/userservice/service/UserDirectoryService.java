@@ -0,0 +1,85 @@
+package com.example.userservice.service;
+
+import com.example.userservice.dto.UserSummaryDTO;
+import com.example.userservice.model.User;
+import com.example.userservice.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Annuaire des utilisateurs : résolution d'un lot d'IDs en fiches (id, username, email).
+ * Les fiches sont gardées en cache par ID ; seules les absentes sont chargées, en une requête par
+ * tranche de {@link #QUERY_CHUNK} IDs. {@link UserService#save} met la fiche à jour (write-through).
+ */
+@Service
+public class UserDirectoryService {
+
+    public static final String CACHE = "userDirectory";
+    public static final int MAX_IDS = 1000;
+    private static final int QUERY_CHUNK = 500;
+
+    private final UserRepository repository;
+    private final Cache cache;
+
+    public UserDirectoryService(UserRepository repository, CacheManager cacheManager) {
+        this.repository = repository;
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE), "Cache " + CACHE + " not configured");
+    }
+
+    /**
+     * Fiches des utilisateurs demandés, dans l'ordre des IDs ; les IDs inconnus sont ignorés.
+     */
+    public List<UserSummaryDTO> findByIds(Collection<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                requested.add(id);
+            }
+        }
+        if (requested.size() > MAX_IDS) {
+            throw new RuntimeException("Too many user ids (max " + MAX_IDS + ")");
+        }
+
+        Map<Long, UserSummaryDTO> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            UserSummaryDTO summary = cache.get(id, UserSummaryDTO.class);
+            if (summary != null) {
+                found.put(id, summary);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += QUERY_CHUNK) {
+            List<Long> chunk = missing.subList(from, Math.min(from + QUERY_CHUNK, missing.size()));
+            for (UserSummaryDTO summary : repository.findSummariesByIdIn(chunk)) {
+                cache.put(summary.getId(), summary);
+                found.put(summary.getId(), summary);
+            }
+        }
+
+        List<UserSummaryDTO> result = new ArrayList<>(found.size());
+        for (Long id : requested) {
+            UserSummaryDTO summary = found.get(id);
+            if (summary != null) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+
+    void update(User user) {
+        cache.put(user.getId(), new UserSummaryDTO(user.getId(), user.getUsername(), user.getEmail()));
+    }
+}
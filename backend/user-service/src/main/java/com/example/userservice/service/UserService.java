@@ -1,16 +1,36 @@
 package com.example.userservice.service;
 
+import com.example.userservice.dto.KeysetPageDTO;
+import com.example.userservice.dto.UserSummaryDTO;
 import com.example.userservice.model.User;
 import com.example.userservice.repository.UserRepository;
+import com.example.userservice.repository.UserSearchRepository;
 import org.springframework.stereotype.Service;
 import java.util.List;
 
 @Service
 public class UserService {
     private final UserRepository repository;
+    private final UserSearchRepository searchRepository;
+    private final UserDirectoryService directory;
 
-    public UserService(UserRepository repository) { this.repository = repository; }
+    public UserService(UserRepository repository, UserSearchRepository searchRepository,
+                       UserDirectoryService directory) {
+        this.repository = repository;
+        this.searchRepository = searchRepository;
+        this.directory = directory;
+    }
 
     public List<User> findAll() { return repository.findAll(); }
-    public User save(User user) { return repository.save(user); }
+
+    public KeysetPageDTO<UserSummaryDTO> search(String query, UserSearchRepository.Match match,
+                                                String cursor, int limit) {
+        return searchRepository.findPage(query, match, cursor, limit);
+    }
+
+    public User save(User user) {
+        User saved = repository.save(user);
+        directory.update(saved);
+        return saved;
+    }
 }
@@ -0,0 +1,18 @@
+-- Index de l'annuaire des utilisateurs (UserSearchRepository), idempotents.
+-- À passer une fois sur la base (psql -f), ou au démarrage du service avec USER_SEARCH_INDEXES_INIT=always :
+-- ils sont alors exécutés après la mise à jour du schéma par Hibernate (spring.jpa.defer-datasource-initialization).
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Tri, pagination par clé et recherche par préfixe (LIKE 'abc%'). La collation "C" permet
+-- l'usage du B-tree pour LIKE quelle que soit la collation de la base
+CREATE INDEX IF NOT EXISTS idx_app_user_username_key
+    ON app_user ((lower(coalesce(username, '')) COLLATE "C"), id);
+CREATE INDEX IF NOT EXISTS idx_app_user_email_key
+    ON app_user ((lower(coalesce(email, '')) COLLATE "C"));
+
+-- Recherche par sous-chaîne (LIKE '%abc%')
+CREATE INDEX IF NOT EXISTS idx_app_user_username_trgm
+    ON app_user USING gin (lower(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_app_user_email_trgm
+    ON app_user USING gin (lower(email) gin_trgm_ops);
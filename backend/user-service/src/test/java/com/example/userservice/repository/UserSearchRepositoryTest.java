@@ -0,0 +1,109 @@
+package com.example.userservice.repository;
+
+import com.example.userservice.dto.KeysetPageDTO;
+import com.example.userservice.dto.UserSummaryDTO;
+import com.example.userservice.model.User;
+import com.example.userservice.repository.UserSearchRepository.Match;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(UserSearchRepository.class)
+class UserSearchRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserSearchRepository searchRepository;
+
+    @Test
+    void prefixSearchMatchesTheStartOfUsernameOrEmail() {
+        user("alice", "alice@example.com");
+        user("Alicia", "a.martin@example.com");
+        user("bob", "ali.bob@example.com");
+        user("malik", "malik@example.com");
+        entityManager.flush();
+
+        assertThat(usernames(searchRepository.findPage("ALI", Match.PREFIX, null, 10)))
+            .containsExactly("alice", "Alicia", "bob");
+    }
+
+    @Test
+    void containsSearchMatchesAnywhereAndEscapesWildcards() {
+        user("alice", "alice@example.com");
+        user("malik", "malik@example.com");
+        user("bob", "bob@example.com");
+        user("a_b", "ab@example.com");
+        user("axb", "axb@example.com");
+        entityManager.flush();
+
+        assertThat(usernames(searchRepository.findPage("li", Match.CONTAINS, null, 10)))
+            .containsExactly("alice", "malik");
+        assertThat(usernames(searchRepository.findPage("_", Match.CONTAINS, null, 10)))
+            .containsExactly("a_b");
+    }
+
+    @Test
+    void cursorsWalkEveryPageOnceInSortOrder() {
+        // Casse mélangée et noms en double : tri sur (nom en minuscules, id)
+        List<String> names = List.of("delta", "Alpha", "charlie", "same", "Bravo", "same", "echo", "SAME");
+        for (String name : names) {
+            user(name, name.toLowerCase() + "@example.com");
+        }
+        entityManager.flush();
+
+        List<String> walked = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPageDTO<UserSummaryDTO> page = searchRepository.findPage(null, Match.PREFIX, cursor, 3);
+            walked.addAll(usernames(page));
+            pageSizes.add(page.getItems().size());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(pageSizes).containsExactly(3, 3, 2);
+        assertThat(walked).containsExactly("Alpha", "Bravo", "charlie", "delta", "echo", "same", "same", "SAME");
+    }
+
+    @Test
+    void cursorsCombineWithAFilter() {
+        for (int i = 0; i < 5; i++) {
+            user("user" + i, "user" + i + "@example.com");
+        }
+        user("other", "other@example.com");
+        entityManager.flush();
+
+        KeysetPageDTO<UserSummaryDTO> first = searchRepository.findPage("user", Match.PREFIX, null, 4);
+        KeysetPageDTO<UserSummaryDTO> second = searchRepository.findPage("user", Match.PREFIX, first.getNextCursor(), 4);
+
+        assertThat(usernames(first)).containsExactly("user0", "user1", "user2", "user3");
+        assertThat(usernames(second)).containsExactly("user4");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    private void user(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("secret");
+        entityManager.persist(user);
+    }
+
+    private static List<String> usernames(KeysetPageDTO<UserSummaryDTO> page) {
+        return page.getItems().stream().map(UserSummaryDTO::getUsername).toList();
+    }
+}
@@ -332,7 +332,12 @@ export class ProjectDetailComponent implements OnInit {
 
     this.isLoading = true;
     this.projectService.recalculateProjectDates(this.project.id).subscribe({
-      next: () => {
+      next: (job) => {
+        if (job.status === 'FAILED') {
+          this.errorMessage = 'Erreur lors du recalcul des dates : ' + (job.error || 'erreur inconnue');
+          this.isLoading = false;
+          return;
+        }
         // Recharger le projet pour obtenir les dates mises à jour
         this.loadProject(this.project.id!);
         alert('Les dates ont été recalculées avec succès');
@@ -1,7 +1,8 @@
 import { CommonModule } from '@angular/common';
-import { Component, computed, DestroyRef, inject, model, OnInit } from '@angular/core';
-import { takeUntilDestroyed } from '@angular/core/rxjs-interop';
-import { User, UserService } from '../../services/user.service';
+import { Component, DestroyRef, inject, model, OnInit } from '@angular/core';
+import { takeUntilDestroyed, toObservable } from '@angular/core/rxjs-interop';
+import { debounceTime, distinctUntilChanged, switchMap } from 'rxjs';
+import { UserService, UserSummary } from '../../services/user.service';
 import { SearchBarComponent } from '../search-bar/search-bar.component';
 import { UserFormComponent } from '../user-form/user-form.component';
 
@@ -13,29 +14,51 @@ import { UserFormComponent } from '../user-form/user-form.component';
   imports: [CommonModule, UserFormComponent, SearchBarComponent]
 })
 export class UserListComponent implements OnInit {
-  users = model<User[]>([]);   // tableau vide au départ
+  users = model<UserSummary[]>([]);   // tableau vide au départ
+  nextCursor: string | null = null;
 
   search = model('');
-
-  filteredUsers = computed(() => {
-    return this.users().filter((user) => 
-    user.username.includes(this.search()))
-  });
   showForm = false;
 
   userService = inject(UserService);
   private destroyRef = inject(DestroyRef);
 
-  constructor() {}
+  // La recherche est faite par le serveur (préfixe du nom ou de l'email), page par page
+  private search$ = toObservable(this.search);
 
   ngOnInit() {
-    this.loadUsers();
+    this.search$
+      .pipe(
+        debounceTime(300),
+        distinctUntilChanged(),
+        switchMap(query => this.userService.searchUsers(query.trim())),
+        takeUntilDestroyed(this.destroyRef)
+      )
+      .subscribe(page => {
+        this.users.set(page.items);
+        this.nextCursor = page.nextCursor;
+      });
   }
 
   loadUsers() {
-    this.userService.getUsers()
+    this.userService.searchUsers(this.search().trim())
+      .pipe(takeUntilDestroyed(this.destroyRef))
+      .subscribe(page => {
+        this.users.set(page.items);
+        this.nextCursor = page.nextCursor;
+      });
+  }
+
+  loadMore() {
+    if (!this.nextCursor) {
+      return;
+    }
+    this.userService.searchUsers(this.search().trim(), this.nextCursor)
       .pipe(takeUntilDestroyed(this.destroyRef))
-      .subscribe(users => this.users.set(users));
+      .subscribe(page => {
+        this.users.update(users => [...users, ...page.items]);
+        this.nextCursor = page.nextCursor;
+      });
   }
 
   onUserCreated() {
@@ -43,7 +66,7 @@ export class UserListComponent implements OnInit {
     this.loadUsers();
   }
 
-  hihi() {
-    console.log("hihi");
+  onSearchSubmit() {
+    this.loadUsers();
   }
 }
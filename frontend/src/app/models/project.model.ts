@@ -1,5 +1,6 @@
 export interface Project {
   id?: number;
+  version?: number; // Verrouillage optimiste : renvoyée telle quelle lors d'une mise à jour
   name: string;
   description: string;
   startDate: string; // ISO date string
@@ -9,6 +10,7 @@ export interface Project {
 
 export interface Task {
   id?: number;
+  version?: number;
   name: string;
   duration: number;
   startDate?: string; // ISO date string
@@ -21,6 +23,15 @@ export interface Task {
   assigneeIds?: number[]; // IDs des utilisateurs assignés
 }
 
+export interface RecalculationJob {
+  id: string;
+  projectId: number;
+  status: 'QUEUED' | 'RUNNING' | 'SUCCEEDED' | 'FAILED';
+  requests: number; // Demandes regroupées dans ce recalcul
+  changedTasks?: number;
+  error?: string;
+}
+
 export interface User {
   id: number;
   username: string;
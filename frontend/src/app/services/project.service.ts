@@ -1,7 +1,8 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { Observable } from 'rxjs';
-import { Project, Task } from '../models/project.model';
+import { Observable, timer } from 'rxjs';
+import { exhaustMap, last, switchMap, takeWhile } from 'rxjs/operators';
+import { Project, RecalculationJob, Task } from '../models/project.model';
 
 
 @Injectable({
@@ -25,6 +26,13 @@ export class ProjectService {
     return this.http.put<Project>(`${this.apiUrl}/${id}`, project);
   }
 
+  // Modification partielle (JSON Merge Patch) : seuls les champs envoyés sont modifiés
+  patchProject(id: number, changes: Partial<Project>): Observable<Project> {
+    return this.http.patch<Project>(`${this.apiUrl}/${id}`, changes, {
+      headers: { 'Content-Type': 'application/merge-patch+json' }
+    });
+  }
+
   deleteProject(id: number): Observable<void> {
     return this.http.delete<void>(`${this.apiUrl}/${id}`);
   }
@@ -45,6 +53,12 @@ export class ProjectService {
     return this.http.put<Task>(`${this.apiUrl}/${projectId}/tasks/${taskId}`, task);
   }
 
+  patchTask(projectId: number, taskId: number, changes: Partial<Task>): Observable<Task> {
+    return this.http.patch<Task>(`${this.apiUrl}/${projectId}/tasks/${taskId}`, changes, {
+      headers: { 'Content-Type': 'application/merge-patch+json' }
+    });
+  }
+
   deleteTask(projectId: number, taskId: number): Observable<void> {
     return this.http.delete<void>(`${this.apiUrl}/${projectId}/tasks/${taskId}`);
   }
@@ -62,7 +76,18 @@ export class ProjectService {
     return this.http.put<Task>(`${this.apiUrl}/${projectId}/tasks/${taskId}/predecessors`, predecessorIds);
   }
 
-  recalculateProjectDates(projectId: number): Observable<void> {
-    return this.http.post<void>(`${this.apiUrl}/${projectId}/recalculate-dates`, {});
+  // Le recalcul tourne en arrière-plan : on suit le job jusqu'à ce qu'il soit terminé
+  recalculateProjectDates(projectId: number): Observable<RecalculationJob> {
+    return this.http.post<RecalculationJob>(`${this.apiUrl}/${projectId}/recalculate-dates`, {}).pipe(
+      switchMap(job => timer(0, 500).pipe(
+        exhaustMap(() => this.getRecalculationJob(projectId, job.id)),
+        takeWhile(current => current.status === 'QUEUED' || current.status === 'RUNNING', true),
+        last()
+      ))
+    );
+  }
+
+  getRecalculationJob(projectId: number, jobId: string): Observable<RecalculationJob> {
+    return this.http.get<RecalculationJob>(`${this.apiUrl}/${projectId}/recalculation-jobs/${jobId}`);
   }
 }
@@ -1,5 +1,5 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 
 export interface User {
@@ -9,6 +9,18 @@ export interface User {
   password: string;
 }
 
+// Fiche publique renvoyée par l'annuaire (sans mot de passe)
+export interface UserSummary {
+  id: number;
+  username: string;
+  email: string;
+}
+
+export interface UserPage {
+  items: UserSummary[];
+  nextCursor: string | null;
+}
+
 @Injectable({
   providedIn: 'root'
 })
@@ -21,6 +33,18 @@ export class UserService {
     return this.http.get<User[]>(this.apiUrl);
   }
 
+  // Recherche côté serveur, page par page : passer nextCursor pour obtenir la page suivante
+  searchUsers(query: string, cursor?: string | null, limit = 50): Observable<UserPage> {
+    let params = new HttpParams().set('limit', limit);
+    if (query) {
+      params = params.set('q', query);
+    }
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+    return this.http.get<UserPage>(`${this.apiUrl}/search`, { params });
+  }
+
   createUser(user: User): Observable<User> {
     return this.http.post<User>(this.apiUrl, user);
   }
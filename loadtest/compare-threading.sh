@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# Compare le débit et la latence p99 des services en threads plateforme puis en threads virtuels.
+# Prérequis : docker (compose v2) et le volume externe erp_pgdata (docker volume create erp_pgdata).
+# Usage : loadtest/compare-threading.sh [VUS] [DURATION]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+VUS="${1:-1200}"
+DURATION="${2:-2m}"
+RESULTS="loadtest/results"
+mkdir -p "$RESULTS"
+
+wait_for_gateway() {
+  for _ in $(seq 1 90); do
+    if curl -fs http://localhost:8080/actuator/health > /dev/null \
+      && curl -fs http://localhost:8080/projects/summary?limit=1 > /dev/null; then
+      return 0
+    fi
+    sleep 2
+  done
+  echo "Gateway not ready" >&2
+  exit 1
+}
+
+run() {
+  local mode="$1" profiles="$2"
+  echo "== $mode"
+  SPRING_PROFILES_ACTIVE="$profiles" docker compose up -d --build --force-recreate \
+    user-service project-service planning-service gateway
+  wait_for_gateway
+  docker run --rm --network host -v "$PWD/loadtest:/loadtest" \
+    -e BASE_URL=http://localhost:8080 -e VUS="$VUS" -e DURATION="$DURATION" -e MODE="$mode" \
+    -e RESULT_FILE="/loadtest/results/$mode.json" \
+    grafana/k6 run --quiet /loadtest/threading.js
+}
+
+docker compose up -d postgres
+run platform ""
+run virtual virtual-threads
+
+# Tableau comparatif, aussi écrit dans results/summary.txt pour être joint à la revue
+{
+  echo "VUS=$VUS DURATION=$DURATION $(date -u +%Y-%m-%dT%H:%M:%SZ) $(git rev-parse --short HEAD)"
+  printf '%-10s %12s %10s %10s %10s %8s\n' mode "req/s" "p50 ms" "p95 ms" "p99 ms" errors
+  for mode in platform virtual; do
+    python3 - "$RESULTS/$mode.json" <<'PY'
+import json, sys
+r = json.load(open(sys.argv[1]))
+print(f"{r['mode']:<10} {r['throughput']:12.1f} {r['p50']:10.1f} {r['p95']:10.1f} {r['p99']:10.1f} {r['failed']:8.2%}")
+PY
+  done
+} | tee "$RESULTS/summary.txt"
@@ -0,0 +1,102 @@
+// Création du jeu de données de test de charge (k6), à travers la gateway.
+// Lancé par run-workload.sh avant la charge, pour que les compteurs de requêtes SQL ne mesurent que la charge.
+// Variables : BASE_URL, PROJECTS, TASKS, USERS, PLANNINGS, DATASET_FILE (IDs créés, lus par erp-workload.js)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PROJECTS = parseInt(__ENV.PROJECTS || '10', 10);
+const TASKS = parseInt(__ENV.TASKS || '500', 10);
+const USERS = parseInt(__ENV.USERS || '200', 10);
+const PLANNINGS = parseInt(__ENV.PLANNINGS || '1000', 10);
+
+export const options = {
+  setupTimeout: '30m',
+  iterations: 1,
+  vus: 1,
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+// Graphe aléatoire mais reproductible : chaque tâche dépend de 0 à 2 tâches récentes d'index inférieur
+function random(seed) {
+  let state = seed;
+  return () => {
+    state = (state * 1103515245 + 12345) % 2147483648;
+    return state / 2147483648;
+  };
+}
+
+function seedProject(index) {
+  const project = http.post(`${BASE_URL}/projects`, JSON.stringify({
+    name: `loadtest-${index}-${Date.now()}`,
+    description: 'Jeu de données de test de charge',
+    startDate: '2025-01-06',
+  }), { headers: JSON_HEADERS }).json();
+
+  const next = random(index + 1);
+  const tasks = [];
+  for (let i = 0; i < TASKS; i++) {
+    const predecessors = [];
+    const count = i === 0 ? 0 : Math.floor(next() * 3);
+    for (let k = 0; k < count; k++) {
+      const key = `t${i - 1 - Math.floor(next() * Math.min(i, 20))}`;
+      if (!predecessors.includes(key)) {
+        predecessors.push(key);
+      }
+    }
+    tasks.push({
+      key: `t${i}`,
+      name: `Task ${i}`,
+      duration: 1 + Math.floor(next() * 10),
+      status: 'TODO',
+      predecessorKeys: predecessors,
+    });
+  }
+  const imported = http.post(`${BASE_URL}/projects/${project.id}/tasks:bulk`, JSON.stringify(tasks),
+    { headers: JSON_HEADERS, timeout: '5m' });
+  check(imported, { 'seed imported': (r) => r.status === 200 });
+
+  // IDs dans l'ordre des clés : un prédécesseur d'index inférieur ne crée jamais de cycle
+  const ids = imported.json('taskIds');
+  return { id: project.id, taskIds: tasks.map((t) => ids[t.key]) };
+}
+
+export function setup() {
+  const projects = [];
+  for (let p = 0; p < PROJECTS; p++) {
+    projects.push(seedProject(p));
+  }
+
+  const userIds = [];
+  for (let u = 0; u < USERS; u++) {
+    const r = http.post(`${BASE_URL}/users`, JSON.stringify({
+      username: `loadtest-user-${u}-${Date.now()}`,
+      email: `loadtest-${u}@example.com`,
+      password: 'loadtest',
+    }), { headers: JSON_HEADERS });
+    userIds.push(r.json('id'));
+  }
+
+  const plannings = [];
+  for (let i = 0; i < PLANNINGS; i++) {
+    const day = String(1 + (i % 28)).padStart(2, '0');
+    plannings.push(['POST', `${BASE_URL}/plannings`, JSON.stringify({
+      date: `2025-02-${day}T09:00:00`,
+      projectId: projects[i % projects.length].id,
+      userId: userIds[i % userIds.length],
+    }), { headers: JSON_HEADERS }]);
+    if (plannings.length === 50 || i === PLANNINGS - 1) {
+      http.batch(plannings.splice(0));
+    }
+  }
+
+  return { config: { projects: PROJECTS, tasks: TASKS, users: USERS, plannings: PLANNINGS }, projects, userIds };
+}
+
+export default function () {
+}
+
+export function handleSummary(data) {
+  return { [__ENV.DATASET_FILE || 'dataset.json']: JSON.stringify(data.setup_data) };
+}
@@ -0,0 +1,235 @@
+// Charge ERP réaliste (k6), à travers la gateway, sur le jeu de données créé par erp-seed.js.
+// Lancé par run-workload.sh ; variables :
+//   BASE_URL, DATASET_FILE        gateway et jeu de données (IDs des projets, tâches et utilisateurs)
+//   RATE, DURATION, MAX_VUS       débit visé (itérations/s) et durée
+//   RESULT_FILE                   résumé par route exporté en JSON
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const DATASET = JSON.parse(open(__ENV.DATASET_FILE || './results/dataset.json'));
+const RATE = parseInt(__ENV.RATE || '200', 10);
+const DURATION = __ENV.DURATION || '2m';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '500', 10);
+
+// Répartition des actions d'un utilisateur (somme = 100)
+const MIX = [
+  { weight: 30, action: ganttRead },
+  { weight: 5, action: dashboardRead },
+  { weight: 15, action: ganttRevalidate },
+  { weight: 12, action: editTask },
+  { weight: 8, action: changePredecessors },
+  { weight: 3, action: recalculate },
+  { weight: 2, action: userLookup },
+  { weight: 3, action: userSearch },
+  { weight: 10, action: assigneeLookup },
+  { weight: 4, action: planningLookup },
+  { weight: 8, action: planningCalendar },
+];
+
+// Noms des routes (tag "name") : chaque route a ses propres percentiles dans le rapport
+const ROUTES = [
+  'GET /projects/{id}',
+  'GET /projects/{id}/tasks',
+  'GET /projects/{id}/tasks (304)',
+  'GET /dashboard/projects/{id}',
+  'PATCH /projects/{id}/tasks/{taskId}',
+  'PUT /projects/{id}/tasks/{taskId}/predecessors',
+  'POST /projects/{id}/recalculate-dates',
+  'GET /projects/{id}/recalculation-jobs/{jobId}',
+  'GET /users',
+  'GET /users?ids=',
+  'GET /users/search',
+  'GET /plannings',
+  'GET /plannings?userId=&from=&to=&limit=',
+];
+
+// Un seuil toujours vrai par route force k6 à calculer les sous-métriques correspondantes
+const thresholds = {};
+for (const route of ROUTES) {
+  thresholds[`http_req_duration{name:${route}}`] = ['max>=0'];
+  thresholds[`http_reqs{name:${route}}`] = ['count>=0'];
+  thresholds[`http_req_failed{name:${route}}`] = ['rate>=0'];
+}
+
+export const options = {
+  scenarios: {
+    erp: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: Math.min(MAX_VUS, RATE),
+      maxVUs: MAX_VUS,
+    },
+  },
+  thresholds,
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+function tagged(name, headers) {
+  return { headers: headers || JSON_HEADERS, tags: { name } };
+}
+
+function pick(items) {
+  return items[Math.floor(Math.random() * items.length)];
+}
+
+function pickTask(project, minIndex) {
+  const index = minIndex + Math.floor(Math.random() * (project.taskIds.length - minIndex));
+  return { index, id: project.taskIds[index] };
+}
+
+// Ouverture du Gantt : projet puis tâches
+function ganttRead(data) {
+  const project = pick(data.projects);
+  const p = http.get(`${BASE_URL}/projects/${project.id}`, tagged('GET /projects/{id}'));
+  const t = http.get(`${BASE_URL}/projects/${project.id}/tasks`, tagged('GET /projects/{id}/tasks'));
+  check(p, { 'project 200': (r) => r.status === 200 });
+  check(t, { 'tasks 200': (r) => r.status === 200 });
+}
+
+// Tableau de bord : projet, tâches, assignés et plannings agrégés par la gateway
+function dashboardRead(data) {
+  const project = pick(data.projects);
+  const r = http.get(`${BASE_URL}/dashboard/projects/${project.id}`, tagged('GET /dashboard/projects/{id}'));
+  check(r, { 'dashboard 200': (res) => res.status === 200 && !res.json('partial') });
+}
+
+// Rafraîchissement d'un Gantt déjà affiché : revalidation par ETag
+function ganttRevalidate(data) {
+  const project = pick(data.projects);
+  const first = http.get(`${BASE_URL}/projects/${project.id}/tasks`, tagged('GET /projects/{id}/tasks'));
+  const etag = first.headers.Etag || first.headers.ETag;
+  if (!etag) {
+    return;
+  }
+  const again = http.get(`${BASE_URL}/projects/${project.id}/tasks`,
+    tagged('GET /projects/{id}/tasks (304)', { 'If-None-Match': etag }));
+  check(again, { 'revalidated': (r) => r.status === 304 || r.status === 200 });
+}
+
+// Modification de durée : propage les dates aux successeurs
+function editTask(data) {
+  const project = pick(data.projects);
+  const task = pickTask(project, 0);
+  const r = http.patch(`${BASE_URL}/projects/${project.id}/tasks/${task.id}`,
+    JSON.stringify({ duration: 1 + Math.floor(Math.random() * 10) }),
+    tagged('PATCH /projects/{id}/tasks/{taskId}', { 'Content-Type': 'application/merge-patch+json' }));
+  check(r, { 'task patched': (res) => res.status === 200 });
+}
+
+// Nouveaux prédécesseurs, choisis parmi les tâches d'index inférieur
+function changePredecessors(data) {
+  const project = pick(data.projects);
+  const task = pickTask(project, 1);
+  const predecessors = [];
+  const count = 1 + Math.floor(Math.random() * 2);
+  for (let k = 0; k < count; k++) {
+    predecessors.push(project.taskIds[Math.floor(Math.random() * task.index)]);
+  }
+  const r = http.put(`${BASE_URL}/projects/${project.id}/tasks/${task.id}/predecessors`,
+    JSON.stringify([...new Set(predecessors)]), tagged('PUT /projects/{id}/tasks/{taskId}/predecessors'));
+  check(r, { 'predecessors updated': (res) => res.status === 200 });
+}
+
+// Recalcul complet : job asynchrone suivi jusqu'à sa fin
+function recalculate(data) {
+  const project = pick(data.projects);
+  const r = http.post(`${BASE_URL}/projects/${project.id}/recalculate-dates`, null,
+    tagged('POST /projects/{id}/recalculate-dates'));
+  if (!check(r, { 'recalculation accepted': (res) => res.status === 202 })) {
+    return;
+  }
+  const location = `${BASE_URL}${r.headers.Location}`;
+  for (let i = 0; i < 20; i++) {
+    sleep(0.25);
+    const status = http.get(location, tagged('GET /projects/{id}/recalculation-jobs/{jobId}')).json('status');
+    if (status === 'SUCCEEDED' || status === 'FAILED') {
+      check(status, { 'recalculation succeeded': (s) => s === 'SUCCEEDED' });
+      return;
+    }
+  }
+}
+
+function userLookup() {
+  const r = http.get(`${BASE_URL}/users`, tagged('GET /users'));
+  check(r, { 'users 200': (res) => res.status === 200 });
+}
+
+// Saisie dans la barre de recherche : première page des utilisateurs dont le nom commence par le préfixe
+function userSearch() {
+  const prefix = `loadtest-user-${Math.floor(Math.random() * 10)}`;
+  const r = http.get(`${BASE_URL}/users/search?q=${prefix}&limit=20`, tagged('GET /users/search'));
+  check(r, { 'user search 200': (res) => res.status === 200 });
+}
+
+// Noms des assignés d'un écran : un lot d'IDs résolu en un appel
+function assigneeLookup(data) {
+  const ids = new Set();
+  for (let k = 0; k < 20; k++) {
+    ids.add(pick(data.userIds));
+  }
+  const r = http.get(`${BASE_URL}/users?ids=${[...ids].join(',')}`, tagged('GET /users?ids='));
+  check(r, { 'users by ids 200': (res) => res.status === 200 });
+}
+
+function planningLookup() {
+  const r = http.get(`${BASE_URL}/plannings`, tagged('GET /plannings'));
+  check(r, { 'plannings 200': (res) => res.status === 200 });
+}
+
+// Calendrier d'un utilisateur sur une semaine (les plannings du jeu de données sont en février 2025)
+function planningCalendar(data) {
+  const start = 1 + Math.floor(Math.random() * 21);
+  const from = `2025-02-${String(start).padStart(2, '0')}T00:00:00`;
+  const to = `2025-02-${String(start + 7).padStart(2, '0')}T00:00:00`;
+  const r = http.get(`${BASE_URL}/plannings?userId=${pick(data.userIds)}&from=${from}&to=${to}&limit=200`,
+    tagged('GET /plannings?userId=&from=&to=&limit='));
+  check(r, { 'calendar 200': (res) => res.status === 200 });
+}
+
+export default function () {
+  const data = DATASET;
+  let roll = Math.random() * 100;
+  for (const { weight, action } of MIX) {
+    roll -= weight;
+    if (roll < 0) {
+      action(data);
+      return;
+    }
+  }
+}
+
+export function handleSummary(data) {
+  const metric = (name, route, stat) => {
+    const m = data.metrics[`${name}{name:${route}}`];
+    return m ? m.values[stat] : 0;
+  };
+  const seconds = data.state.testRunDurationMs / 1000;
+  const routes = {};
+  for (const route of ROUTES) {
+    const count = metric('http_reqs', route, 'count');
+    if (count === 0) {
+      continue;
+    }
+    routes[route] = {
+      requests: count,
+      throughput: count / seconds,
+      failed: metric('http_req_failed', route, 'rate'),
+      p50: metric('http_req_duration', route, 'p(50)'),
+      p95: metric('http_req_duration', route, 'p(95)'),
+      p99: metric('http_req_duration', route, 'p(99)'),
+    };
+  }
+  const result = {
+    config: { ...DATASET.config, rate: RATE, duration: DURATION },
+    durationSeconds: seconds,
+    throughput: data.metrics.http_reqs.values.count / seconds,
+    failed: data.metrics.http_req_failed.values.rate,
+    routes,
+  };
+  return { [__ENV.RESULT_FILE || 'k6-summary.json']: JSON.stringify(result, null, 2) };
+}
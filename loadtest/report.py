@@ -0,0 +1,131 @@
+#!/usr/bin/env python3
+"""Rapport d'un test de charge : débit et latences par route (résumé k6), requêtes SQL par service
+et par route (écarts des métriques Prometheus relevées avant et après la charge).
+
+Usage : report.py RUN_DIR [--baseline AUTRE_RUN_DIR/report.json]
+Écrit RUN_DIR/report.json ; avec --baseline, affiche l'écart relatif de chaque valeur.
+"""
+import argparse
+import json
+import re
+from collections import defaultdict
+from pathlib import Path
+
+SERVICES = ["user-service", "project-service", "planning-service"]
+SAMPLE = re.compile(r'^([a-zA-Z_:][a-zA-Z0-9_:]*)(?:\{(.*)\})?\s+(\S+)')
+LABEL = re.compile(r'(\w+)="((?:[^"\\]|\\.)*)"')
+
+
+def parse(path):
+    """Échantillons Prometheus : {(nom, ((label, valeur), ...)): valeur}."""
+    samples = {}
+    if not path.exists():
+        return samples
+    for line in path.read_text().splitlines():
+        match = SAMPLE.match(line)
+        if not match or line.startswith("#"):
+            continue
+        name, labels, value = match.groups()
+        key = (name, tuple(sorted(LABEL.findall(labels or ""))))
+        samples[key] = float(value)
+    return samples
+
+
+def total(samples, name, **labels):
+    return sum(value for (metric, tags), value in samples.items()
+               if metric == name and all((k, v) in tags for k, v in labels.items()))
+
+
+def by_label(samples, name, label, **labels):
+    values = defaultdict(float)
+    for (metric, tags), value in samples.items():
+        tags = dict(tags)
+        if metric == name and all(tags.get(k) == v for k, v in labels.items()):
+            values[(tags.get("method"), tags.get(label))] += value
+    return values
+
+
+def database_report(run_dir):
+    services = {}
+    routes = {}
+    for service in SERVICES:
+        before = parse(run_dir / "metrics-before" / f"{service}.prom")
+        after = parse(run_dir / "metrics-after" / f"{service}.prom")
+        if not after:
+            continue
+
+        def delta(name, **labels):
+            return total(after, name, **labels) - total(before, name, **labels)
+
+        requests = delta("http_server_requests_seconds_count")
+        statements = delta("hibernate_statements_total", status="prepared")
+        services[service] = {
+            "httpRequests": requests,
+            "statements": statements,
+            "queries": delta("hibernate_query_executions_total"),
+            "entitiesLoaded": delta("hibernate_entities_loads_total"),
+            "statementsPerRequest": statements / requests if requests else 0,
+        }
+
+        # Requêtes SQL par route (project-service : http.server.requests.queries)
+        sums_after = by_label(after, "http_server_requests_queries_sum", "uri")
+        counts_after = by_label(after, "http_server_requests_queries_count", "uri")
+        sums_before = by_label(before, "http_server_requests_queries_sum", "uri")
+        counts_before = by_label(before, "http_server_requests_queries_count", "uri")
+        for key, count in counts_after.items():
+            count -= counts_before.get(key, 0)
+            if count > 0 and not key[1].startswith("/actuator"):
+                queries = sums_after[key] - sums_before.get(key, 0)
+                routes[f"{key[0]} {key[1]}"] = {"requests": count, "queriesPerRequest": queries / count}
+    return services, routes
+
+
+def change(value, baseline):
+    if baseline is None or not baseline:
+        return ""
+    return f"{(value - baseline) / baseline:+.0%}"
+
+
+def print_report(report, baseline):
+    base_routes = (baseline or {}).get("routes", {})
+    print(f"\nDébit total : {report['throughput']:.1f} req/s, échecs {report['failed']:.2%}"
+          f" ({report['durationSeconds']:.0f} s)")
+    print(f"\n{'route':<48} {'req/s':>8} {'p50 ms':>8} {'p95 ms':>8} {'p99 ms':>8} {'échecs':>7} {'Δ p95':>7}")
+    for route, r in sorted(report["routes"].items()):
+        base = base_routes.get(route, {})
+        print(f"{route:<48} {r['throughput']:8.1f} {r['p50']:8.1f} {r['p95']:8.1f} {r['p99']:8.1f}"
+              f" {r['failed']:7.2%} {change(r['p95'], base.get('p95')):>7}")
+
+    base_services = (baseline or {}).get("database", {}).get("services", {})
+    print(f"\n{'service':<18} {'requêtes HTTP':>14} {'SQL':>10} {'SQL/req':>8} {'entités':>10} {'Δ SQL/req':>10}")
+    for service, s in report["database"]["services"].items():
+        base = base_services.get(service, {})
+        print(f"{service:<18} {s['httpRequests']:14.0f} {s['statements']:10.0f} {s['statementsPerRequest']:8.1f}"
+              f" {s['entitiesLoaded']:10.0f} {change(s['statementsPerRequest'], base.get('statementsPerRequest')):>10}")
+
+    base_sql = (baseline or {}).get("database", {}).get("routes", {})
+    if report["database"]["routes"]:
+        print(f"\n{'route (project-service)':<58} {'requêtes':>9} {'SQL/req':>8} {'Δ':>7}")
+        for route, r in sorted(report["database"]["routes"].items()):
+            base = base_sql.get(route, {})
+            print(f"{route:<58} {r['requests']:9.0f} {r['queriesPerRequest']:8.1f}"
+                  f" {change(r['queriesPerRequest'], base.get('queriesPerRequest')):>7}")
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("run_dir", type=Path)
+    parser.add_argument("--baseline", type=Path)
+    args = parser.parse_args()
+
+    report = json.loads((args.run_dir / "k6.json").read_text())
+    services, routes = database_report(args.run_dir)
+    report["database"] = {"services": services, "routes": routes}
+    (args.run_dir / "report.json").write_text(json.dumps(report, indent=2))
+
+    baseline = json.loads(args.baseline.read_text()) if args.baseline else None
+    print_report(report, baseline)
+
+
+if __name__ == "__main__":
+    main()
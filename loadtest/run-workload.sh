@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Test de charge de bout en bout à travers la gateway (:8080), avec PostgreSQL local (docker compose).
+# Crée le jeu de données, relève les métriques des services, rejoue la charge ERP mixte puis
+# affiche débit, latences p50/p95/p99 par route et requêtes SQL par service et par route.
+# Prérequis : docker (compose v2), python3 et le volume externe erp_pgdata (docker volume create erp_pgdata).
+#
+# Usage : loadtest/run-workload.sh [--no-up] [--baseline results/<run>/report.json]
+# Variables : PROJECTS (10), TASKS (500), USERS (200), PLANNINGS (1000), RATE (200 itérations/s),
+#             DURATION (2m), MAX_VUS (500), SPRING_PROFILES_ACTIVE (profils des services)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+UP=1
+BASELINE=()
+while [ $# -gt 0 ]; do
+  case "$1" in
+    --no-up) UP=0 ;;
+    --baseline) BASELINE=(--baseline "$2"); shift ;;
+    *) echo "Unknown option: $1" >&2; exit 2 ;;
+  esac
+  shift
+done
+
+RUN="loadtest/results/$(date +%Y%m%d-%H%M%S)"
+mkdir -p "$RUN/metrics-before" "$RUN/metrics-after"
+
+wait_for_gateway() {
+  for _ in $(seq 1 90); do
+    if curl -fs http://localhost:8080/actuator/health > /dev/null \
+      && curl -fs http://localhost:8080/projects/summary?limit=1 > /dev/null \
+      && curl -fs http://localhost:8080/users > /dev/null \
+      && curl -fs http://localhost:8080/plannings > /dev/null; then
+      return 0
+    fi
+    sleep 2
+  done
+  echo "Gateway not ready" >&2
+  exit 1
+}
+
+# Les services exposent /actuator/prometheus sur leur propre port (non routé par la gateway)
+scrape() {
+  local dir="$1"
+  curl -fs http://localhost:8081/actuator/prometheus > "$dir/user-service.prom"
+  curl -fs http://localhost:8082/actuator/prometheus > "$dir/project-service.prom"
+  curl -fs http://localhost:8083/actuator/prometheus > "$dir/planning-service.prom"
+}
+
+k6() {
+  docker run --rm --network host -v "$PWD/loadtest:/loadtest" -w /loadtest \
+    -e BASE_URL=http://localhost:8080 \
+    -e PROJECTS="${PROJECTS:-10}" -e TASKS="${TASKS:-500}" -e USERS="${USERS:-200}" \
+    -e PLANNINGS="${PLANNINGS:-1000}" -e RATE="${RATE:-200}" -e DURATION="${DURATION:-2m}" \
+    -e MAX_VUS="${MAX_VUS:-500}" -e DATASET_FILE="/$RUN/dataset.json" -e RESULT_FILE="/$RUN/k6.json" \
+    grafana/k6 run --quiet "$@"
+}
+
+if [ "$UP" = 1 ]; then
+  # Un seul client (k6) : la gateway relève ses limites de débit par client
+  GATEWAY_PROFILES_ACTIVE="${GATEWAY_PROFILES_ACTIVE:-loadtest}" docker compose up -d --build postgres user-service project-service planning-service gateway
+fi
+wait_for_gateway
+
+echo "== Jeu de données : ${PROJECTS:-10} projets x ${TASKS:-500} tâches, ${USERS:-200} utilisateurs, ${PLANNINGS:-1000} plannings"
+k6 /loadtest/erp-seed.js
+
+scrape "$RUN/metrics-before"
+echo "== Charge : ${RATE:-200} itérations/s pendant ${DURATION:-2m}"
+k6 /loadtest/erp-workload.js
+scrape "$RUN/metrics-after"
+
+python3 loadtest/report.py "$RUN" ${BASELINE[@]+"${BASELINE[@]}"}
+echo
+echo "Rapport : $RUN/report.json"
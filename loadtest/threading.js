@@ -0,0 +1,84 @@
+// Charge de comparaison threads plateforme / threads virtuels (k6).
+// Lancé par compare-threading.sh ; variables : BASE_URL, VUS, DURATION, TASKS, RESULT_FILE.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '1200', 10);
+const DURATION = __ENV.DURATION || '2m';
+const TASKS = parseInt(__ENV.TASKS || '500', 10);
+
+export const options = {
+  scenarios: {
+    clients: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: DURATION, target: VUS },
+        { duration: '10s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+// Un projet de TASKS tâches en chaînes de 10, importé en une requête
+export function setup() {
+  const project = http.post(`${BASE_URL}/projects`,
+    JSON.stringify({ name: `loadtest-${Date.now()}`, startDate: '2025-01-06' }), JSON_HEADERS).json();
+  const tasks = [];
+  for (let i = 0; i < TASKS; i++) {
+    tasks.push({
+      key: `t${i}`,
+      name: `Task ${i}`,
+      duration: 1 + (i % 5),
+      status: 'TODO',
+      predecessorKeys: i % 10 === 0 ? [] : [`t${i - 1}`],
+    });
+  }
+  const imported = http.post(`${BASE_URL}/projects/${project.id}/tasks:bulk`, JSON.stringify(tasks), JSON_HEADERS);
+  check(imported, { 'seed imported': (r) => r.status === 200 });
+  return { projectId: project.id };
+}
+
+export default function (data) {
+  const id = data.projectId;
+  const responses = http.batch([
+    ['GET', `${BASE_URL}/projects/${id}/tasks`, null, { tags: { name: 'GET /projects/{id}/tasks' } }],
+    ['GET', `${BASE_URL}/projects/summary?limit=50`, null, { tags: { name: 'GET /projects/summary' } }],
+    ['GET', `${BASE_URL}/users`, null, { tags: { name: 'GET /users' } }],
+    ['GET', `${BASE_URL}/plannings`, null, { tags: { name: 'GET /plannings' } }],
+  ]);
+  responses.forEach((r) => check(r, { 'status 200': (res) => res.status === 200 }));
+
+  // Les recalculs sont les requêtes lentes qui faisaient attendre les autres
+  if (Math.random() < 0.05) {
+    const r = http.post(`${BASE_URL}/projects/${id}/recalculate-dates`, null,
+      { tags: { name: 'POST /projects/{id}/recalculate-dates' } });
+    check(r, { 'status 202': (res) => res.status === 202 });
+  }
+}
+
+export function teardown(data) {
+  http.del(`${BASE_URL}/projects/${data.projectId}`);
+}
+
+export function handleSummary(data) {
+  const result = {
+    mode: __ENV.MODE || 'unknown',
+    vus: VUS,
+    throughput: data.metrics.http_reqs.values.rate,
+    failed: data.metrics.http_req_failed.values.rate,
+    p50: data.metrics.http_req_duration.values['p(50)'],
+    p95: data.metrics.http_req_duration.values['p(95)'],
+    p99: data.metrics.http_req_duration.values['p(99)'],
+  };
+  return {
+    stdout: JSON.stringify(result, null, 2) + '\n',
+    [__ENV.RESULT_FILE || 'result.json']: JSON.stringify(result, null, 2),
+  };
+}